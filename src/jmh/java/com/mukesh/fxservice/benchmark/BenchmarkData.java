@@ -0,0 +1,54 @@
+package com.mukesh.fxservice.benchmark;
+
+import com.mukesh.fxservice.domain.ExchangeRate;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic, reproducible business-day rate series used by the benchmarks.
+ */
+public final class BenchmarkData {
+
+    public static final LocalDate SERIES_END = LocalDate.parse("2024-12-31");
+    public static final int SERIES_YEARS = 25;
+
+    private BenchmarkData() {
+    }
+
+    public static Map<LocalDate, BigDecimal> series(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Map<LocalDate, BigDecimal> series = new LinkedHashMap<>();
+        long scaled = 1_100_000;
+        for (LocalDate date = SERIES_END.minusYears(SERIES_YEARS); !date.isAfter(SERIES_END); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            scaled = Math.max(1, scaled + random.nextLong(-5_000, 5_001));
+            series.put(date, BigDecimal.valueOf(scaled, 6));
+        }
+        return series;
+    }
+
+    public static List<ExchangeRate> rates(String currency, long seed) {
+        List<ExchangeRate> rates = new ArrayList<>();
+        series(seed).forEach((date, rate) -> rates.add(new ExchangeRate(currency, rate, date)));
+        return rates;
+    }
+
+    public static String bundesbankCsv(long seed) {
+        StringBuilder csv = new StringBuilder()
+                .append(",BBEX3.D.USD.EUR.BB.AC.000,BBEX3.D.USD.EUR.BB.AC.000_FLAGS\n")
+                .append(",\"Euro foreign exchange reference rate\",\n")
+                .append("unit,USD,\n")
+                .append("unit multiplier,one,\n");
+        series(seed).forEach((date, rate) -> csv.append(date).append(',').append(rate.toPlainString()).append(",\n"));
+        return csv.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.mukesh.fxservice.benchmark;
+
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.config.CurrencyProperties;
+import com.mukesh.fxservice.config.RateLookupProperties;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.dto.ConversionResponse;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import com.mukesh.fxservice.service.ExchangeRateService;
+import com.mukesh.fxservice.service.FixedPointMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ExchangeRateService#convert} served from the in-memory rate matrix, against the bare
+ * {@code BigDecimal} division and the {@link FixedPointMath} long division it performs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    private ExchangeRateService service;
+    private BigDecimal amount;
+    private BigDecimal rate;
+    private LocalDate[] dates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<ExchangeRate> rates = BenchmarkData.rates("USD", 42);
+
+        // The repository is only used to build the cache; cached conversions never reach it.
+        ExchangeRateRepository repository = mock(ExchangeRateRepository.class);
+        when(repository.findAll()).thenReturn(rates);
+        ExchangeRateCache cache = new ExchangeRateCache(repository);
+        cache.reload();
+
+        service = new ExchangeRateService(repository, new CurrencyProperties(), cache, new RateLookupProperties(),
+                ExchangeRateMetrics.noop());
+        amount = new BigDecimal("12345.67");
+        rate = rates.get(rates.size() / 2).getRate();
+        dates = rates.stream().map(ExchangeRate::getRateDate).toArray(LocalDate[]::new);
+    }
+
+    @Benchmark
+    public ConversionResponse convertCached() {
+        LocalDate date = dates[next];
+        next = next + 1 == dates.length ? 0 : next + 1;
+        return service.convert("USD", amount, date);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalDivide() {
+        return amount.divide(rate, 6, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal fixedPointDivide() {
+        return FixedPointMath.divide(amount, rate, 6);
+    }
+}
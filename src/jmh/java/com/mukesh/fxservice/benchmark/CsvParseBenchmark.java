@@ -0,0 +1,44 @@
+package com.mukesh.fxservice.benchmark;
+
+import com.mukesh.fxservice.service.impl.BundesbankCsvParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * commons-csv parse of a synthetic 25-year Bundesbank daily series, as done by the loader.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvParseBenchmark {
+
+    @Param({"1000", "100000"})
+    private int chunkSize;
+
+    private String csv;
+
+    @Setup
+    public void setUp() {
+        csv = BenchmarkData.bundesbankCsv(42);
+    }
+
+    @Benchmark
+    public int parseFullSeries() {
+        return BundesbankCsvParser.parse("USD", new StringReader(csv), chunkSize, chunk -> chunk.size());
+    }
+}
@@ -0,0 +1,157 @@
+package com.mukesh.fxservice.benchmark;
+
+import com.mukesh.fxservice.ExchangeRateServiceApplication;
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.repository.ExchangeRateBulkWriter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test comparing platform request threads (Tomcat default), the
+ * {@code virtual} profile and the R2DBC-backed reactive read API. Each mode boots the application
+ * on a random port with its own in-memory database, seeds synthetic rates and drives
+ * {@code -concurrency} clients until {@code -requests} requests have completed.
+ * <p>
+ * Options: {@code -requests=20000 -concurrency=1000 -warmup=2000 -path=/api/rates/cursor?size=50
+ * -modes=platform,virtual}. In {@code reactive} mode the path is requested under
+ * {@code /api/reactive/}, which only serves {@code /rates}, {@code /rates/stream} and
+ * {@code /conversions}.
+ * Any {@code --name=value} argument is passed to both applications as a Spring property, e.g.
+ * {@code --spring.datasource.url=...} to measure against a networked database.
+ */
+public final class HttpLoadTest {
+
+    private static final String[] CURRENCIES = {"USD", "JPY", "GBP", "CHF", "SEK", "NOK", "PLN", "CZK"};
+
+    private HttpLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> springProperties = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                springProperties.add(arg.substring(2));
+            } else if (arg.startsWith("-") && arg.contains("=")) {
+                options.put(arg.substring(1, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        int requests = Integer.parseInt(options.getOrDefault("requests", "20000"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "1000"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "2000"));
+        String path = options.getOrDefault("path", "/api/rates/cursor?size=50");
+        String[] modes = options.getOrDefault("modes", "platform,virtual").split(",");
+
+        List<String> report = new ArrayList<>();
+        for (String mode : modes) {
+            try (ConfigurableApplicationContext context = start(mode, springProperties)) {
+                String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                        + context.getEnvironment().getProperty("server.servlet.context-path", "");
+                URI uri = URI.create(base + ("reactive".equals(mode) ? path.replaceFirst("^/api/", "/api/reactive/") : path));
+
+                run(uri, warmup, Math.min(concurrency, 100));
+                report.add(String.format("%-8s %s", mode, run(uri, requests, concurrency)));
+            }
+        }
+
+        System.out.printf("%nGET %s, %d requests, %d concurrent clients%n", path, requests, concurrency);
+        report.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext start(String mode, List<String> overrides) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:fxload-" + mode + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.devtools.restart.enabled=false",
+                "app.fx.refresh-cron=-",
+                "app.fx.response-cache.enabled=false",
+                // all load comes from one address
+                "app.fx.rate-limit.enabled=false",
+                "logging.level.root=WARN"));
+        if ("reactive".equals(mode)) {
+            // R2DBC opens the same in-memory database as the JDBC URL above
+            properties.add("app.fx.reactive.enabled=true");
+        }
+        properties.addAll(overrides);
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ExchangeRateServiceApplication.class);
+        if ("virtual".equals(mode)) {
+            builder.profiles("virtual");
+        }
+        // command-line arguments, unlike builder properties, take precedence over application.properties
+        ConfigurableApplicationContext context = builder.run(properties.stream()
+                .map(property -> "--" + property)
+                .toArray(String[]::new));
+
+        ExchangeRateBulkWriter writer = context.getBean(ExchangeRateBulkWriter.class);
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            writer.insertMissing(CURRENCIES[i], BenchmarkData.series(i));
+        }
+        context.getBean(ExchangeRateCache.class).reload();
+        return context;
+    }
+
+    private static Result run(URI uri, int requests, int concurrency) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+
+        Thread[] clients = new Thread[concurrency];
+        long start = System.nanoTime();
+        for (int c = 0; c < concurrency; c++) {
+            clients[c] = Thread.ofVirtual().start(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < requests) {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - sent;
+                }
+            });
+        }
+        for (Thread t : clients) {
+            t.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(requests, errors.get(), elapsed,
+                latencies[requests / 2], latencies[(int) (requests * 0.99)], latencies[requests - 1]);
+    }
+
+    private record Result(int requests, long errors, long elapsedNanos, long p50, long p99, long max) {
+
+        @Override
+        public String toString() {
+            return String.format("%8.0f req/s  p50 %7.2f ms  p99 %8.2f ms  max %8.2f ms  errors %d",
+                    requests / (elapsedNanos / 1e9), p50 / 1e6, p99 / 1e6, max / 1e6, errors);
+        }
+    }
+}
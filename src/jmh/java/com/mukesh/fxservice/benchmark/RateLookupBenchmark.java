@@ -0,0 +1,89 @@
+package com.mukesh.fxservice.benchmark;
+
+import com.mukesh.fxservice.ExchangeRateServiceApplication;
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.repository.ExchangeRateBulkWriter;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import com.mukesh.fxservice.service.ExchangeRateService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-rate lookups against an in-memory H2 database, straight through the repository and
+ * through {@link ExchangeRateService#getRate}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLookupBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ExchangeRateRepository repository;
+    private ExchangeRateService service;
+    private LocalDate[] dates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExchangeRateServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:fxbench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.devtools.restart.enabled=false",
+                        "app.fx.refresh-cron=-",
+                        "logging.level.com.mukesh.fxservice=WARN")
+                .run();
+
+        Map<LocalDate, BigDecimal> series = BenchmarkData.series(42);
+        context.getBean(ExchangeRateBulkWriter.class).insertMissing("USD", series);
+        context.getBean(ExchangeRateCache.class).reload();
+
+        repository = context.getBean(ExchangeRateRepository.class);
+        service = context.getBean(ExchangeRateService.class);
+        dates = series.keySet().toArray(LocalDate[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private LocalDate nextDate() {
+        LocalDate date = dates[next];
+        next = next + 1 == dates.length ? 0 : next + 1;
+        return date;
+    }
+
+    @Benchmark
+    public Optional<ExchangeRate> repositoryLookup() {
+        return repository.findByCurrencyAndRateDate("USD", nextDate());
+    }
+
+    @Benchmark
+    public ExchangeRate serviceGetRate() {
+        return service.getRate("USD", nextDate());
+    }
+}
@@ -0,0 +1,59 @@
+package com.mukesh.fxservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mukesh.fxservice.config.CborWireModule;
+import com.mukesh.fxservice.dto.ExchangeRateResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialising one 500-row rate page as JSON and as the compact CBOR served for
+ * {@code Accept: application/cbor}. Payload sizes are printed once per fork.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private List<ExchangeRateResponse> page;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        json = Jackson2ObjectMapperBuilder.json().build();
+        cbor = Jackson2ObjectMapperBuilder.cbor().modulesToInstall(new CborWireModule()).build();
+        page = BenchmarkData.rates("USD", 42).subList(0, 500).stream()
+                .map(rate -> new ExchangeRateResponse(rate.getCurrency(), rate.getRate(), rate.getRateDate()))
+                .toList();
+
+        System.out.printf("%npayload: json %d bytes, cbor %d bytes%n",
+                json.writeValueAsBytes(page).length, cbor.writeValueAsBytes(page).length);
+    }
+
+    @Benchmark
+    public byte[] json() throws JsonProcessingException {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws JsonProcessingException {
+        return cbor.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,47 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.benchmark.BenchmarkData;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code toResponse} mapping of one 50-row page, the default page size of {@code /api/rates}.
+ * Lives in the service package because the mapper is package-private.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private ExchangeRateService service;
+    private List<ExchangeRate> page;
+
+    @Setup
+    public void setUp() {
+        service = new ExchangeRateService(null, null, null, null, null);
+        page = BenchmarkData.rates("USD", 42).subList(0, 50);
+    }
+
+    @Benchmark
+    public void mapPage(Blackhole blackhole) {
+        for (ExchangeRate rate : page) {
+            blackhole.consume(service.toResponse(rate));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.mukesh.fxservice.cache;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Dense, immutable rate series of one currency. Rates are stored as longs scaled by
+ * {@link #SCALE} and indexed by {@code epochDay - startEpochDay}; days without an
+ * observation hold {@link #MISSING}.
+ * <p>
+ * Prefix sums of the observations are built once per snapshot, so count, mean and standard
+ * deviation of any date range cost O(1). Values are shifted by the first observation before
+ * summing, which keeps the sums small and the variance free of catastrophic cancellation.
+ */
+public final class CurrencySeries {
+
+    public static final int SCALE = 6;
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private final String currency;
+    private final long startEpochDay;
+    private final long[] scaledRates;
+
+    // prefix arrays have one more slot than scaledRates: entry i covers indices [0, i)
+    private final long shift;
+    private final int[] prefixCount;
+    private final long[] prefixSum;
+    private final double[] prefixSquares;
+
+    CurrencySeries(String currency, long startEpochDay, long[] scaledRates) {
+        this.currency = currency;
+        this.startEpochDay = startEpochDay;
+        this.scaledRates = scaledRates;
+
+        long first = 0;
+        for (long value : scaledRates) {
+            if (value != MISSING) {
+                first = value;
+                break;
+            }
+        }
+        this.shift = first;
+
+        int length = scaledRates.length;
+        this.prefixCount = new int[length + 1];
+        this.prefixSum = new long[length + 1];
+        this.prefixSquares = new double[length + 1];
+        for (int i = 0; i < length; i++) {
+            long value = scaledRates[i];
+            boolean present = value != MISSING;
+            long shifted = present ? value - shift : 0;
+            prefixCount[i + 1] = prefixCount[i] + (present ? 1 : 0);
+            prefixSum[i + 1] = prefixSum[i] + shifted;
+            prefixSquares[i + 1] = prefixSquares[i] + (double) shifted * shifted;
+        }
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public LocalDate getFirstDate() {
+        return LocalDate.ofEpochDay(startEpochDay);
+    }
+
+    public LocalDate getLastDate() {
+        return LocalDate.ofEpochDay(startEpochDay + scaledRates.length - 1);
+    }
+
+    long startEpochDay() {
+        return startEpochDay;
+    }
+
+    // the backing array itself; callers must not modify it
+    long[] scaledRates() {
+        return scaledRates;
+    }
+
+    public int size() {
+        return prefixCount[scaledRates.length];
+    }
+
+    /**
+     * @return the rate scaled by {@link #SCALE}, or {@link #MISSING} if there is no observation
+     */
+    public long scaledRate(LocalDate date) {
+        long index = date.toEpochDay() - startEpochDay;
+        if (index < 0 || index >= scaledRates.length) {
+            return MISSING;
+        }
+        return scaledRates[(int) index];
+    }
+
+    /**
+     * Latest day with an observation on or before {@code date}, looking back no further than {@code earliest}.
+     *
+     * @return the epoch-day of that observation, or {@link #MISSING} if there is none
+     */
+    public long floorEpochDay(LocalDate date, LocalDate earliest) {
+        long stop = Math.max(earliest.toEpochDay(), startEpochDay);
+        for (long day = Math.min(date.toEpochDay(), startEpochDay + scaledRates.length - 1); day >= stop; day--) {
+            if (scaledRates[(int) (day - startEpochDay)] != MISSING) {
+                return day;
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Visits every observation between {@code from} and {@code to} (both inclusive) in date order.
+     */
+    public void forEachBetween(LocalDate from, LocalDate to, ObservationConsumer consumer) {
+        long first = Math.max(from.toEpochDay(), startEpochDay);
+        long last = Math.min(to.toEpochDay(), startEpochDay + scaledRates.length - 1);
+        for (long day = first; day <= last; day++) {
+            long scaled = scaledRates[(int) (day - startEpochDay)];
+            if (scaled != MISSING) {
+                consumer.accept(day, scaled);
+            }
+        }
+    }
+
+    /**
+     * @return number of observations between {@code from} and {@code to}, both inclusive
+     */
+    public int count(LocalDate from, LocalDate to) {
+        return count(from.toEpochDay(), to.toEpochDay());
+    }
+
+    public int count(long fromEpochDay, long toEpochDay) {
+        int lo = lowerIndex(fromEpochDay);
+        int hi = upperIndex(toEpochDay);
+        return lo >= hi ? 0 : prefixCount[hi] - prefixCount[lo];
+    }
+
+    /**
+     * @return mean of the observations between {@code fromEpochDay} and {@code toEpochDay}, or
+     * {@code null} if there are none
+     */
+    public BigDecimal mean(long fromEpochDay, long toEpochDay, int scale) {
+        int lo = lowerIndex(fromEpochDay);
+        int hi = upperIndex(toEpochDay);
+        int n = lo >= hi ? 0 : prefixCount[hi] - prefixCount[lo];
+        if (n == 0) {
+            return null;
+        }
+        BigDecimal total = BigDecimal.valueOf(prefixSum[hi] - prefixSum[lo])
+                .add(BigDecimal.valueOf(shift).multiply(BigDecimal.valueOf(n)));
+        return total.divide(BigDecimal.valueOf(n).scaleByPowerOfTen(SCALE), scale, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * @return population standard deviation of the observations between {@code fromEpochDay}
+     * and {@code toEpochDay} in rate units, or {@code NaN} if there are none
+     */
+    public double standardDeviation(long fromEpochDay, long toEpochDay) {
+        int lo = lowerIndex(fromEpochDay);
+        int hi = upperIndex(toEpochDay);
+        int n = lo >= hi ? 0 : prefixCount[hi] - prefixCount[lo];
+        if (n == 0) {
+            return Double.NaN;
+        }
+        double sum = prefixSum[hi] - prefixSum[lo];
+        double squares = prefixSquares[hi] - prefixSquares[lo];
+        double variance = Math.max(0, (squares - sum * sum / n) / n);
+        return Math.sqrt(variance) / Math.pow(10, SCALE);
+    }
+
+    // first array index at or after the day, clamped to [0, length]
+    private int lowerIndex(long epochDay) {
+        return (int) Math.min(Math.max(epochDay - startEpochDay, 0), scaledRates.length);
+    }
+
+    // array index just past the day, clamped to [0, length]
+    private int upperIndex(long epochDay) {
+        return (int) Math.min(Math.max(epochDay - startEpochDay + 1, 0), scaledRates.length);
+    }
+
+    public BigDecimal rate(LocalDate date) {
+        long scaled = scaledRate(date);
+        return scaled == MISSING ? null : BigDecimal.valueOf(scaled, SCALE);
+    }
+
+    @FunctionalInterface
+    public interface ObservationConsumer {
+        void accept(long epochDay, long scaledRate);
+    }
+}
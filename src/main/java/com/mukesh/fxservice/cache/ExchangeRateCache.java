@@ -0,0 +1,94 @@
+package com.mukesh.fxservice.cache;
+
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import com.mukesh.fxservice.service.api.ExchangeRatesLoadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the current {@link RateMatrix}. Reads never block; a reload builds a complete
+ * new matrix from the database and publishes it with a single volatile write.
+ */
+@Component
+public class ExchangeRateCache {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ExchangeRateCache.class);
+
+    private final ExchangeRateRepository repository;
+    private final AtomicLong generations = new AtomicLong();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile RateMatrix matrix = RateMatrix.empty();
+
+    public ExchangeRateCache(ExchangeRateRepository repository) {
+        this.repository = repository;
+    }
+
+    public BigDecimal findRate(String currency, LocalDate date) {
+        return matrix.findRate(currency, date);
+    }
+
+    public ExchangeRate findRateOnOrBefore(String currency, LocalDate date, LocalDate earliest) {
+        return matrix.findRateOnOrBefore(currency, date, earliest);
+    }
+
+    public RateMatrix getMatrix() {
+        return matrix;
+    }
+
+    // Skipped when a snapshot has already been installed (see RateSnapshotService).
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (matrix.isEmpty()) {
+            reload();
+        }
+    }
+
+    // Runs before other listeners, so they observe the rebuilt matrix.
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onRatesLoaded(ExchangeRatesLoadedEvent event) {
+        log.debug("Rebuilding rate cache after load of {} rows", event.insertedRows());
+        reload();
+    }
+
+    public void reload() {
+        reloadLock.lock();
+        try {
+            RateMatrix rebuilt = RateMatrix.build(repository.findAll(), generations.incrementAndGet());
+            matrix = rebuilt;
+            log.info("Rate cache swapped to generation {}", rebuilt.getGeneration());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the current matrix with the one stored in {@code file}, without touching the database.
+     */
+    public RateMatrix loadSnapshot(Path file) throws IOException {
+        reloadLock.lock();
+        try {
+            RateMatrix restored = RateSnapshotFile.read(file, generations.incrementAndGet());
+            matrix = restored;
+            log.info("Rate cache swapped to generation {} from snapshot {}", restored.getGeneration(), file);
+            return restored;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.mukesh.fxservice.cache;
+
+import com.mukesh.fxservice.domain.ExchangeRate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of all stored exchange rates, keyed by currency and date.
+ * A new instance is built after every successful load and swapped in as a whole.
+ */
+public final class RateMatrix {
+
+    private static final RateMatrix EMPTY = new RateMatrix(Map.of(), 0, Instant.EPOCH);
+
+    private final Map<String, CurrencySeries> series;
+    private final long generation;
+    private final Instant loadedAt;
+
+    private RateMatrix(Map<String, CurrencySeries> series, long generation, Instant loadedAt) {
+        this.series = series;
+        this.generation = generation;
+        this.loadedAt = loadedAt;
+    }
+
+    public static RateMatrix empty() {
+        return EMPTY;
+    }
+
+    public static RateMatrix build(List<ExchangeRate> rates, long generation) {
+        Map<String, long[]> bounds = new HashMap<>();
+        for (ExchangeRate rate : rates) {
+            long day = rate.getRateDate().toEpochDay();
+            bounds.merge(rate.getCurrency(), new long[]{day, day},
+                    (a, b) -> new long[]{Math.min(a[0], b[0]), Math.max(a[1], b[1])});
+        }
+
+        Map<String, long[]> values = new HashMap<>();
+        bounds.forEach((currency, range) -> {
+            long[] dense = new long[Math.toIntExact(range[1] - range[0] + 1)];
+            Arrays.fill(dense, CurrencySeries.MISSING);
+            values.put(currency, dense);
+        });
+
+        for (ExchangeRate rate : rates) {
+            Long scaled = toScaled(rate.getRate());
+            if (scaled != null) {
+                long start = bounds.get(rate.getCurrency())[0];
+                values.get(rate.getCurrency())[(int) (rate.getRateDate().toEpochDay() - start)] = scaled;
+            }
+        }
+
+        Map<String, CurrencySeries> series = new HashMap<>();
+        values.forEach((currency, dense) ->
+                series.put(currency, new CurrencySeries(currency, bounds.get(currency)[0], dense)));
+
+        return new RateMatrix(Map.copyOf(series), generation, Instant.now());
+    }
+
+    /**
+     * Snapshot of already-built series, e.g. read back from a {@link RateSnapshotFile}.
+     */
+    static RateMatrix of(Collection<CurrencySeries> currencies, long generation) {
+        Map<String, CurrencySeries> series = new HashMap<>();
+        currencies.forEach(currencySeries -> series.put(currencySeries.getCurrency(), currencySeries));
+        return new RateMatrix(Map.copyOf(series), generation, Instant.now());
+    }
+
+    // Rates that do not fit the fixed scale are left out and served by the database instead.
+    private static Long toScaled(BigDecimal rate) {
+        try {
+            return rate.setScale(CurrencySeries.SCALE, RoundingMode.UNNECESSARY)
+                    .unscaledValue()
+                    .longValueExact();
+        } catch (ArithmeticException ex) {
+            return null;
+        }
+    }
+
+    public BigDecimal findRate(String currency, LocalDate date) {
+        CurrencySeries currencySeries = series.get(currency);
+        return currencySeries == null ? null : currencySeries.rate(date);
+    }
+
+    /**
+     * @return the latest rate on or before {@code date} but not before {@code earliest}, or {@code null}
+     */
+    public ExchangeRate findRateOnOrBefore(String currency, LocalDate date, LocalDate earliest) {
+        CurrencySeries currencySeries = series.get(currency);
+        if (currencySeries == null) {
+            return null;
+        }
+        long day = currencySeries.floorEpochDay(date, earliest);
+        if (day == CurrencySeries.MISSING) {
+            return null;
+        }
+        LocalDate rateDate = LocalDate.ofEpochDay(day);
+        return new ExchangeRate(currency, currencySeries.rate(rateDate), rateDate);
+    }
+
+    /**
+     * @return every currency with a rate on {@code date}, in currency order
+     */
+    public Map<String, BigDecimal> ratesOn(LocalDate date) {
+        Map<String, BigDecimal> rates = new TreeMap<>();
+        series.forEach((currency, currencySeries) -> {
+            BigDecimal rate = currencySeries.rate(date);
+            if (rate != null) {
+                rates.put(currency, rate);
+            }
+        });
+        return rates;
+    }
+
+    public CurrencySeries getSeries(String currency) {
+        return series.get(currency);
+    }
+
+    Collection<CurrencySeries> allSeries() {
+        return series.values();
+    }
+
+    public boolean isEmpty() {
+        return series.isEmpty();
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,131 @@
+package com.mukesh.fxservice.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary snapshot of a {@link RateMatrix}: the dense scaled-long series of every currency,
+ * written as-is so that reading it back is a memory map and a bulk copy per currency.
+ * <pre>
+ * int   magic "FXRS"
+ * int   version
+ * int   scale
+ * int   currency count
+ * per currency:
+ *   short   code length, bytes code (ASCII)
+ *   long    start epoch-day
+ *   int     day count
+ *   long[]  scaled rates, {@link CurrencySeries#MISSING} for days without an observation
+ * long  CRC-32 of everything above
+ * </pre>
+ * All values are big-endian.
+ */
+public final class RateSnapshotFile {
+
+    private static final int MAGIC = 0x46585253;
+    private static final int VERSION = 1;
+    private static final int TRAILER_BYTES = Long.BYTES;
+
+    private RateSnapshotFile() {
+    }
+
+    /**
+     * Writes to a temporary file next to {@code file} and moves it into place, so readers never
+     * see a partially written snapshot.
+     */
+    public static void write(RateMatrix matrix, Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            try (OutputStream target = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(
+                         new CheckedOutputStream(new BufferedOutputStream(target, 1 << 16), crc))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(CurrencySeries.SCALE);
+                out.writeInt(matrix.allSeries().size());
+                for (CurrencySeries series : matrix.allSeries()) {
+                    byte[] code = series.getCurrency().getBytes(StandardCharsets.US_ASCII);
+                    out.writeShort(code.length);
+                    out.write(code);
+                    out.writeLong(series.startEpochDay());
+                    long[] rates = series.scaledRates();
+                    out.writeInt(rates.length);
+                    for (long rate : rates) {
+                        out.writeLong(rate);
+                    }
+                }
+                out.flush();
+                // the checksum is not part of itself, so bypass the checked stream
+                new DataOutputStream(target).writeLong(crc.getValue());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Maps {@code file} read-only and copies every series out of it.
+     *
+     * @throws IOException if the file cannot be read, is truncated, fails its checksum or was
+     *                     written with a different version or scale
+     */
+    public static RateMatrix read(Path file, long generation) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 4 * Integer.BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a rate snapshot: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, (int) size - TRAILER_BYTES));
+            if (buffer.getLong((int) size - TRAILER_BYTES) != crc.getValue()) {
+                throw new IOException("Rate snapshot checksum mismatch: " + file);
+            }
+
+            ByteBuffer body = buffer.slice(0, (int) size - TRAILER_BYTES);
+            if (body.getInt() != MAGIC) {
+                throw new IOException("Not a rate snapshot: " + file);
+            }
+            int version = body.getInt();
+            int scale = body.getInt();
+            if (version != VERSION || scale != CurrencySeries.SCALE) {
+                throw new IOException("Unsupported rate snapshot version " + version + " / scale " + scale + ": " + file);
+            }
+
+            int count = body.getInt();
+            List<CurrencySeries> series = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] code = new byte[body.getShort()];
+                body.get(code);
+                long startEpochDay = body.getLong();
+                long[] rates = new long[body.getInt()];
+                body.asLongBuffer().get(rates);
+                body.position(body.position() + rates.length * Long.BYTES);
+                series.add(new CurrencySeries(new String(code, StandardCharsets.US_ASCII), startEpochDay, rates));
+            }
+            return RateMatrix.of(series, generation);
+        } catch (RuntimeException ex) {
+            // BufferUnderflowException and friends from a malformed body
+            throw new IOException("Corrupt rate snapshot: " + file, ex);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.mukesh.fxservice.cache;
+
+import com.mukesh.fxservice.config.SnapshotProperties;
+import com.mukesh.fxservice.repository.ExchangeRateBulkWriter;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import com.mukesh.fxservice.service.api.ExchangeRatesLoadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps a {@link RateSnapshotFile} of the rate cache on disk and warms the cache from it on startup.
+ * <p>
+ * Startup listeners complete before the readiness state turns to accepting traffic, so with a
+ * snapshot present the node becomes ready after a file read instead of a full-table load. An empty
+ * database is then seeded from the snapshot, and a non-empty one is re-read in the background to
+ * pick up rates stored after the snapshot was written.
+ */
+@Component
+public class RateSnapshotService {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(RateSnapshotService.class);
+
+    private final ExchangeRateCache rateCache;
+    private final ExchangeRateRepository repository;
+    private final ExchangeRateBulkWriter bulkWriter;
+    private final SnapshotProperties properties;
+
+    // Serialises writers so that an older matrix never replaces a newer snapshot.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long writtenGeneration;
+
+    public RateSnapshotService(ExchangeRateCache rateCache,
+                               ExchangeRateRepository repository,
+                               ExchangeRateBulkWriter bulkWriter,
+                               SnapshotProperties properties) {
+        this.rateCache = rateCache;
+        this.repository = repository;
+        this.bulkWriter = bulkWriter;
+        this.properties = properties;
+    }
+
+    // Runs before ExchangeRateCache.warmUp, which skips its database load once a matrix is installed.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void restore() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Path file = properties.getPath();
+        if (Files.isRegularFile(file)) {
+            try {
+                RateMatrix restored = rateCache.loadSnapshot(file);
+                Thread.ofVirtual().name("rate-snapshot-sync").start(() -> synchronise(restored));
+                return;
+            } catch (IOException ex) {
+                log.warn("Ignoring unreadable rate snapshot {}: {}", file, ex.getMessage());
+            }
+        }
+
+        // No usable snapshot: warm up from the database and write one for the next start.
+        rateCache.reload();
+        write(rateCache.getMatrix());
+    }
+
+    @EventListener
+    public void onRatesLoaded(ExchangeRatesLoadedEvent event) {
+        if (properties.isEnabled()) {
+            write(rateCache.getMatrix());
+        }
+    }
+
+    private void synchronise(RateMatrix restored) {
+        try {
+            if (repository.count() == 0) {
+                if (properties.isSeedEmptyDatabase()) {
+                    log.info("Seeding empty database from rate snapshot ({} rows)", seed(restored));
+                }
+            } else {
+                rateCache.reload();
+                write(rateCache.getMatrix());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to synchronise rate snapshot with the database", ex);
+        }
+    }
+
+    private int seed(RateMatrix matrix) {
+        int inserted = 0;
+        for (CurrencySeries series : matrix.allSeries()) {
+            Map<LocalDate, BigDecimal> rates = new LinkedHashMap<>();
+            series.forEachBetween(series.getFirstDate(), series.getLastDate(), (day, scaled) ->
+                    rates.put(LocalDate.ofEpochDay(day), BigDecimal.valueOf(scaled, CurrencySeries.SCALE)));
+            inserted += bulkWriter.insertMissing(series.getCurrency(), rates);
+        }
+        return inserted;
+    }
+
+    private void write(RateMatrix matrix) {
+        if (matrix.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (matrix.getGeneration() <= writtenGeneration) {
+                return;
+            }
+            RateSnapshotFile.write(matrix, properties.getPath());
+            writtenGeneration = matrix.getGeneration();
+            log.info("Wrote rate snapshot of generation {} to {}", matrix.getGeneration(), properties.getPath());
+        } catch (IOException ex) {
+            log.warn("Failed to write rate snapshot {}: {}", properties.getPath(), ex.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mukesh.fxservice.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Compact CBOR representation of the API types. Decimals need nothing extra: Jackson already
+ * writes {@code BigDecimal} as a tag 4 decimal fraction, i.e. a scaled integer
+ * {@code [-scale, unscaled]}. Dates are written as tag 100 (RFC 8943) days since 1970-01-01 instead
+ * of ISO strings; anything the standard {@code LocalDate} deserializer reads (ISO strings,
+ * {@code [year, month, day]} arrays) is still accepted.
+ */
+public class CborWireModule extends SimpleModule {
+
+    static final int EPOCH_DAYS_TAG = 100;
+
+    public CborWireModule() {
+        super("CborWireModule");
+        addSerializer(LocalDate.class, new EpochDaySerializer());
+        addDeserializer(LocalDate.class, new EpochDayDeserializer());
+    }
+
+    static final class EpochDaySerializer extends StdScalarSerializer<LocalDate> {
+
+        EpochDaySerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            if (generator instanceof CBORGenerator cbor) {
+                cbor.writeTag(EPOCH_DAYS_TAG);
+            }
+            generator.writeNumber(value.toEpochDay());
+        }
+    }
+
+    static final class EpochDayDeserializer extends StdScalarDeserializer<LocalDate> {
+
+        EpochDayDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return LocalDate.ofEpochDay(parser.getLongValue());
+            }
+            return LocalDateDeserializer.INSTANCE.deserialize(parser, context);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.mukesh.fxservice.config;
+
+import com.mukesh.fxservice.service.api.RefreshMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.fx.loader")
+public class LoaderProperties {
+
+    private boolean parallel = true;
+    private int maxConcurrency = 8;
+    private Duration deadline = Duration.ofMinutes(5);
+    private RefreshMode mode = RefreshMode.INCREMENTAL;
+    private boolean streaming = false;
+    private int chunkSize = 1000;
+    private boolean bulkWrite = false;
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Duration deadline) {
+        this.deadline = deadline;
+    }
+
+    public RefreshMode getMode() {
+        return mode;
+    }
+
+    public void setMode(RefreshMode mode) {
+        this.mode = mode;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public boolean isBulkWrite() {
+        return bulkWrite;
+    }
+
+    public void setBulkWrite(boolean bulkWrite) {
+        this.bulkWrite = bulkWrite;
+    }
+}
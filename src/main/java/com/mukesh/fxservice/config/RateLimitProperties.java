@@ -0,0 +1,99 @@
+package com.mukesh.fxservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.fx.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // Header splitting a principal's or address's quota among the callers behind it; ignored when blank.
+    private String clientIdHeader = "";
+    private int maxTrackedClients = 100_000;
+    private Quota defaultQuota = new Quota();
+    private Map<String, EndpointQuota> endpoints = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getClientIdHeader() {
+        return clientIdHeader;
+    }
+
+    public void setClientIdHeader(String clientIdHeader) {
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    public int getMaxTrackedClients() {
+        return maxTrackedClients;
+    }
+
+    public void setMaxTrackedClients(int maxTrackedClients) {
+        this.maxTrackedClients = maxTrackedClients;
+    }
+
+    public Quota getDefaultQuota() {
+        return defaultQuota;
+    }
+
+    public void setDefaultQuota(Quota defaultQuota) {
+        this.defaultQuota = defaultQuota;
+    }
+
+    public Map<String, EndpointQuota> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, EndpointQuota> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * At most {@code requests} per {@code per}, all of which may arrive in one burst.
+     */
+    public static class Quota {
+
+        private int requests = 200;
+        private Duration per = Duration.ofSeconds(1);
+
+        public int getRequests() {
+            return requests;
+        }
+
+        public void setRequests(int requests) {
+            this.requests = requests;
+        }
+
+        public Duration getPer() {
+            return per;
+        }
+
+        public void setPer(Duration per) {
+            this.per = per;
+        }
+    }
+
+    public static class EndpointQuota extends Quota {
+
+        // Path pattern below the context path, e.g. /api/conversions/**
+        private String path;
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+    }
+}
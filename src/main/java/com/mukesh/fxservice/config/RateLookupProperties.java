@@ -0,0 +1,28 @@
+package com.mukesh.fxservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.fx.lookup")
+public class RateLookupProperties {
+
+    private boolean fallbackToPreviousDate = false;
+    private int maxLookbackDays = 7;
+
+    public boolean isFallbackToPreviousDate() {
+        return fallbackToPreviousDate;
+    }
+
+    public void setFallbackToPreviousDate(boolean fallbackToPreviousDate) {
+        this.fallbackToPreviousDate = fallbackToPreviousDate;
+    }
+
+    public int getMaxLookbackDays() {
+        return maxLookbackDays;
+    }
+
+    public void setMaxLookbackDays(int maxLookbackDays) {
+        this.maxLookbackDays = maxLookbackDays;
+    }
+}
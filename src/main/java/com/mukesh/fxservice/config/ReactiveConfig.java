@@ -0,0 +1,73 @@
+package com.mukesh.fxservice.config;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * R2DBC access for the reactive read API ({@code app.fx.reactive.enabled}).
+ * <p>
+ * Only the {@link DatabaseClient} is exposed as a bean: a {@link ConnectionFactory} bean would make
+ * Spring Boot back off from the JDBC {@code DataSource} that JPA, the loader and the lease table
+ * still use. Without an explicit {@code r2dbc-url} the pool opens the same H2 database as
+ * {@code spring.datasource.url}, so both stacks read the same rows in-process.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.fx.reactive", name = "enabled", havingValue = "true")
+public class ReactiveConfig implements DisposableBean {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ReactiveProperties properties,
+                                                 @Value("${spring.datasource.url}") String jdbcUrl,
+                                                 @Value("${spring.datasource.username:}") String username,
+                                                 @Value("${spring.datasource.password:}") String password) {
+        ConnectionFactory connectionFactory = properties.getR2dbcUrl().isBlank()
+                ? h2ConnectionFactory(jdbcUrl, username, password)
+                : ConnectionFactories.get(ConnectionFactoryOptions.parse(properties.getR2dbcUrl())
+                        .mutate()
+                        .option(ConnectionFactoryOptions.USER, username)
+                        .option(ConnectionFactoryOptions.PASSWORD, password)
+                        .build());
+
+        int maxSize = Math.max(1, properties.getMaxPoolSize());
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(Math.min(2, maxSize))
+                .maxSize(maxSize)
+                .maxAcquireTime(properties.getAcquireTimeout())
+                .build());
+        return DatabaseClient.create(pool);
+    }
+
+    private static ConnectionFactory h2ConnectionFactory(String jdbcUrl, String username, String password) {
+        if (!jdbcUrl.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException(
+                    "app.fx.reactive.r2dbc-url is required for non-H2 datasource " + jdbcUrl);
+        }
+        return new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(H2_JDBC_PREFIX.length()))
+                .username(username)
+                .password(password)
+                .build());
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.mukesh.fxservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.fx.reactive")
+public class ReactiveProperties {
+
+    private boolean enabled = false;
+    // R2DBC URL of the rate database; when blank, derived from the H2 spring.datasource.url
+    private String r2dbcUrl = "";
+    private int maxPoolSize = 16;
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getR2dbcUrl() {
+        return r2dbcUrl;
+    }
+
+    public void setR2dbcUrl(String r2dbcUrl) {
+        this.r2dbcUrl = r2dbcUrl;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public Duration getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    public void setAcquireTimeout(Duration acquireTimeout) {
+        this.acquireTimeout = acquireTimeout;
+    }
+}
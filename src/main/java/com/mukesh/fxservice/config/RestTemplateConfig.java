@@ -2,18 +2,28 @@ package com.mukesh.fxservice.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
+import java.net.http.HttpClient;
 
 @Configuration
 public class RestTemplateConfig {
+
+    /**
+     * One shared JDK {@link HttpClient}: connections are pooled and kept alive across the currency
+     * fetches of a refresh, and HTTPS endpoints negotiate HTTP/2 so concurrent fetches share a
+     * single connection.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout((int) Duration.ofSeconds(2).toMillis());
-        requestFactory.setReadTimeout((int) Duration.ofSeconds(4).toMillis());
+    public RestTemplate restTemplate(BundesbankClientProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
         return new RestTemplate(requestFactory);
     }
 }
@@ -0,0 +1,39 @@
+package com.mukesh.fxservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.fx.snapshot")
+public class SnapshotProperties {
+
+    private boolean enabled = false;
+    private Path path = Path.of("./data/fx-rates.snapshot");
+    private boolean seedEmptyDatabase = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public void setPath(Path path) {
+        this.path = path;
+    }
+
+    public boolean isSeedEmptyDatabase() {
+        return seedEmptyDatabase;
+    }
+
+    public void setSeedEmptyDatabase(boolean seedEmptyDatabase) {
+        this.seedEmptyDatabase = seedEmptyDatabase;
+    }
+}
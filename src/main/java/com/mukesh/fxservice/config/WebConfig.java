@@ -0,0 +1,63 @@
+package com.mukesh.fxservice.config;
+
+import com.mukesh.fxservice.controller.HttpCacheInterceptor;
+import com.mukesh.fxservice.controller.RateLimitInterceptor;
+import com.mukesh.fxservice.ratelimit.ClientRateLimiter;
+import com.mukesh.fxservice.service.ExchangeRateService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ExchangeRateService exchangeRateService;
+    private final Duration historicalMaxAge;
+    private final Duration currentMaxAge;
+    private final ObjectProvider<ClientRateLimiter> rateLimiter;
+    private final ObjectProvider<RateLimitProperties> rateLimitProperties;
+
+    public WebConfig(ExchangeRateService exchangeRateService,
+                     @Value("${app.fx.http-cache.historical-max-age:365d}") Duration historicalMaxAge,
+                     @Value("${app.fx.http-cache.current-max-age:60s}") Duration currentMaxAge,
+                     ObjectProvider<ClientRateLimiter> rateLimiter,
+                     ObjectProvider<RateLimitProperties> rateLimitProperties) {
+        this.exchangeRateService = exchangeRateService;
+        this.historicalMaxAge = historicalMaxAge;
+        this.currentMaxAge = currentMaxAge;
+        this.rateLimiter = rateLimiter;
+        this.rateLimitProperties = rateLimitProperties;
+    }
+
+    /**
+     * Replaces Spring MVC's default CBOR converter so that {@code Accept: application/cbor} gets the
+     * compact encoding of {@link CborWireModule}. JSON stays the default for other clients.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.cbor()
+                .modulesToInstall(new CborWireModule())
+                .build());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Not present in MVC slice tests, which only load the web layer.
+        rateLimiter.ifAvailable(limiter -> registry
+                .addInterceptor(new RateLimitInterceptor(limiter,
+                        rateLimitProperties.getObject().getClientIdHeader()))
+                .addPathPatterns("/api/**"));
+        registry.addInterceptor(new HttpCacheInterceptor(exchangeRateService,
+                        historicalMaxAge, currentMaxAge, Clock.systemDefaultZone()))
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/rates/export", "/api/reactive/rates/stream");
+    }
+}
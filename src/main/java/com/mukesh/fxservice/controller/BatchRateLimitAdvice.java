@@ -0,0 +1,59 @@
+package com.mukesh.fxservice.controller;
+
+import com.mukesh.fxservice.dto.BatchConversionRequest;
+import com.mukesh.fxservice.ratelimit.ClientRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Charges a batch conversion by its item count rather than as one request. {@link RateLimitInterceptor}
+ * has already taken one token before the body was read; the remaining items are taken here, from
+ * the same quota, before the batch is converted.
+ */
+@RestControllerAdvice
+public class BatchRateLimitAdvice extends RequestBodyAdviceAdapter {
+
+    private final ObjectProvider<ClientRateLimiter> rateLimiter;
+
+    public BatchRateLimitAdvice(ObjectProvider<ClientRateLimiter> rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter,
+                            Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return BatchConversionRequest.class.equals(targetType);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body,
+                                HttpInputMessage inputMessage,
+                                MethodParameter parameter,
+                                Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+
+        if (body instanceof BatchConversionRequest batch
+                && batch.conversions() != null
+                && batch.conversions().size() > 1
+                && RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+
+            HttpServletRequest request = attributes.getRequest();
+            // absent when rate limiting is off, e.g. in MVC slice tests
+            if (request.getAttribute(RateLimitInterceptor.CLIENT_ID_ATTRIBUTE) instanceof String clientId) {
+                rateLimiter.ifAvailable(limiter -> limiter.acquire(
+                        RateLimitInterceptor.path(request), clientId, batch.conversions().size() - 1));
+            }
+        }
+        return body;
+    }
+}
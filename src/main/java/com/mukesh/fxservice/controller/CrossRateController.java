@@ -0,0 +1,65 @@
+package com.mukesh.fxservice.controller;
+
+import com.mukesh.fxservice.dto.CrossConversionResponse;
+import com.mukesh.fxservice.dto.CrossRateMatrixResponse;
+import com.mukesh.fxservice.service.CrossRateService;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api")
+@Validated
+public class CrossRateController {
+
+    private final CrossRateService crossRateService;
+
+    public CrossRateController(CrossRateService crossRateService) {
+        this.crossRateService = crossRateService;
+    }
+
+    @GetMapping("/conversions/cross")
+    public CrossConversionResponse convert(
+            @RequestParam
+            @NotBlank(message = "Source currency must not be blank")
+            @Pattern(regexp = "^[A-Z]{3}$",
+                    message = "Source currency must be 3 uppercase letters")
+            String from,
+
+            @RequestParam
+            @NotBlank(message = "Target currency must not be blank")
+            @Pattern(regexp = "^[A-Z]{3}$",
+                    message = "Target currency must be 3 uppercase letters")
+            String to,
+
+            @RequestParam
+            @Positive(message = "Amount must be positive")
+            BigDecimal amount,
+
+            @RequestParam
+            @NotNull(message = "Date must not be null")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date
+    ) {
+        return crossRateService.convert(from, to, amount, date);
+    }
+
+    @GetMapping("/rates/cross")
+    public CrossRateMatrixResponse getCrossRates(
+            @RequestParam
+            @NotNull(message = "Date must not be null")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date) {
+        return crossRateService.getCrossRates(date);
+    }
+}
@@ -1,18 +1,25 @@
 package com.mukesh.fxservice.controller;
 
+import com.mukesh.fxservice.dto.BatchConversionRequest;
+import com.mukesh.fxservice.dto.BatchConversionResult;
 import com.mukesh.fxservice.dto.ConversionResponse;
 import com.mukesh.fxservice.dto.ExchangeRateResponse;
+import com.mukesh.fxservice.dto.RatePageResponse;
 import com.mukesh.fxservice.service.ExchangeRateService;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -26,6 +33,9 @@ import java.util.List;
 @Validated
 public class ExchangeRateController {
 
+    static final int MAX_PAGE_SIZE = 500;
+    static final String MAX_PAGE_SIZE_MESSAGE = "Page size must be " + MAX_PAGE_SIZE + " or less";
+
     private final ExchangeRateService service;
 
     public ExchangeRateController(ExchangeRateService service) {
@@ -36,7 +46,6 @@ public class ExchangeRateController {
     public List<String> getCurrencies() {
         return service.getAvailableCurrencies();
     }
-    //FIXME : pagination user can request allowing arbitrary page size. huge load on DB
     @GetMapping("/rates")
     public List<ExchangeRateResponse> getRates(
             @RequestParam(required = false)
@@ -47,6 +56,7 @@ public class ExchangeRateController {
             int page,
             @RequestParam(defaultValue = "50")
             @Min(value = 1, message = "Page size must be 1 or greater")
+            @Max(value = MAX_PAGE_SIZE, message = MAX_PAGE_SIZE_MESSAGE)
             int size) {
 
         Pageable pageable = PageRequest.of(page, size);
@@ -58,6 +68,21 @@ public class ExchangeRateController {
         return service.getRatesByDate(date, pageable).getContent();
     }
 
+    @GetMapping("/rates/cursor")
+    public RatePageResponse getRatesPage(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date,
+            @RequestParam(required = false)
+            String cursor,
+            @RequestParam(defaultValue = "50")
+            @Min(value = 1, message = "Page size must be 1 or greater")
+            @Max(value = MAX_PAGE_SIZE, message = MAX_PAGE_SIZE_MESSAGE)
+            int size) {
+
+        return service.getRatesPage(date, cursor, size);
+    }
+
     @GetMapping("/conversions")
     public ConversionResponse convert(
             @RequestParam
@@ -78,5 +103,11 @@ public class ExchangeRateController {
         return service.convert(currency, amount, date);
     }
 
+    @PostMapping("/conversions/batch")
+    public List<BatchConversionResult> convertBatch(
+            @RequestBody @Valid BatchConversionRequest request) {
+        return service.convertBatch(request.conversions());
+    }
+
 
 }
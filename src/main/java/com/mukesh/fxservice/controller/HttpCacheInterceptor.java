@@ -0,0 +1,128 @@
+package com.mukesh.fxservice.controller;
+
+import com.mukesh.fxservice.service.ExchangeRateService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Conditional GET support for the read endpoints. Validators are derived from the rate snapshot
+ * generation, so a request whose {@code If-None-Match} / {@code If-Modified-Since} still matches
+ * is answered with {@code 304} before the handler runs. For other requests the cache headers are
+ * left in a request attribute and written by {@link HttpCacheHeaderAdvice} on success only.
+ * <p>
+ * The ETag is weak: it is computed before content negotiation and shared by the JSON, CBOR and
+ * gzip representations, which only need to be semantically equivalent. {@code Vary} is sent with
+ * the 304 as well, so caches key the stored response the same way.
+ * <p>
+ * Requests for a past date that every supported currency has a rate for are marked
+ * {@code immutable} with a long max-age. Anything else gets a short TTL: today's rates, requests
+ * without a date, and dates a fallback or a partially failed load may still change.
+ */
+public class HttpCacheInterceptor implements HandlerInterceptor {
+
+    static final String CACHE_HEADERS_ATTRIBUTE = HttpCacheInterceptor.class.getName() + ".headers";
+
+    private final ExchangeRateService service;
+    private final Duration historicalMaxAge;
+    private final Duration currentMaxAge;
+    private final Clock clock;
+
+    public HttpCacheInterceptor(ExchangeRateService service,
+                                Duration historicalMaxAge,
+                                Duration currentMaxAge,
+                                Clock clock) {
+        this.service = service;
+        this.historicalMaxAge = historicalMaxAge;
+        this.currentMaxAge = currentMaxAge;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return true;
+        }
+
+        long generation = service.getDataGeneration();
+        Instant loadedAt = service.getDataLoadedAt();
+        if (generation == 0 || loadedAt == null) {
+            return true;
+        }
+
+        String etag = "W/\"" + generation + "-" + Long.toHexString(loadedAt.toEpochMilli()) + "\"";
+        CacheControl cacheControl = isHistorical(request)
+                ? CacheControl.maxAge(historicalMaxAge).cachePublic().immutable()
+                : CacheControl.maxAge(currentMaxAge).cachePublic();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setLastModified(loadedAt);
+        headers.setCacheControl(cacheControl);
+        // the body may be JSON or CBOR, gzipped or not
+        headers.setVary(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+
+        if (isNotModified(request, etag, loadedAt)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            return false;
+        }
+
+        request.setAttribute(CACHE_HEADERS_ATTRIBUTE, headers);
+        return true;
+    }
+
+    // If-None-Match takes precedence over If-Modified-Since (RFC 9110, 13.2.2) and uses weak comparison
+    private static boolean isNotModified(HttpServletRequest request, String etag, Instant loadedAt) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || weak(tag).equals(weak(etag))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            // HTTP dates have second precision
+            return ifModifiedSince >= 0 && ifModifiedSince / 1000 >= loadedAt.getEpochSecond();
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private static String weak(String tag) {
+        return tag.startsWith("W/") ? tag : "W/" + tag;
+    }
+
+    // series and stats are keyed by their range end, everything else by its date
+    private boolean isHistorical(HttpServletRequest request) {
+        String date = request.getParameter("to");
+        if (date == null) {
+            date = request.getParameter("date");
+        }
+        if (date == null) {
+            return false;
+        }
+        try {
+            LocalDate requested = LocalDate.parse(date);
+            return requested.isBefore(LocalDate.now(clock)) && service.hasCompleteRates(requested);
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.mukesh.fxservice.controller;
+
+import com.mukesh.fxservice.dto.RateExportFormat;
+import com.mukesh.fxservice.service.ExchangeRateExportService;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api")
+@Validated
+public class RateExportController {
+
+    private final ExchangeRateExportService exportService;
+
+    public RateExportController(ExchangeRateExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/rates/export")
+    public ResponseEntity<StreamingResponseBody> exportRates(
+            @RequestParam(defaultValue = "ndjson")
+            @Pattern(regexp = "(?i)ndjson|csv|cbor",
+                    message = "Format must be ndjson, csv or cbor")
+            String format) {
+
+        RateExportFormat exportFormat = RateExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        String filename = "exchange-rates." + exportFormat.name().toLowerCase(Locale.ROOT);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(outputStream -> exportService.export(exportFormat, outputStream));
+    }
+}
@@ -0,0 +1,66 @@
+package com.mukesh.fxservice.controller;
+
+import com.mukesh.fxservice.ratelimit.ClientRateLimiter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.security.Principal;
+
+/**
+ * Charges every API request to its client's quota before the handler runs. A client is the
+ * authenticated principal, or the remote address for anonymous requests. When a client id header
+ * is configured its value only narrows that further, e.g. to tell apart services behind one
+ * gateway; it never moves a request to another address's quota. Rejected requests surface as
+ * {@code RateLimitExceededException}, answered with 429 by {@code GlobalExceptionHandler}.
+ * <p>
+ * The client is left in a request attribute so that {@link BatchRateLimitAdvice} can charge the
+ * remaining items of a batch once its body has been read.
+ * <p>
+ * Responses replayed by {@link ResponseCacheFilter} are written before the dispatcher and are not
+ * charged; they are pre-serialised bytes and cost next to nothing to serve.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String CLIENT_ID_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".clientId";
+
+    private final ClientRateLimiter rateLimiter;
+    private final String clientIdHeader;
+
+    public RateLimitInterceptor(ClientRateLimiter rateLimiter, String clientIdHeader) {
+        this.rateLimiter = rateLimiter;
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // async dispatches of streaming and reactive responses were charged on the initial request
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        String clientId = clientId(request);
+        request.setAttribute(CLIENT_ID_ATTRIBUTE, clientId);
+        rateLimiter.acquire(path(request), clientId);
+        return true;
+    }
+
+    static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private String clientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        String clientId = principal != null
+                ? "user:" + principal.getName()
+                : "addr:" + request.getRemoteAddr();
+
+        if (clientIdHeader != null && !clientIdHeader.isBlank()) {
+            String subKey = request.getHeader(clientIdHeader);
+            if (subKey != null && !subKey.isBlank()) {
+                return clientId + "/id:" + subKey.trim();
+            }
+        }
+        return clientId;
+    }
+}
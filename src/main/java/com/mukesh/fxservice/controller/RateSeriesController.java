@@ -0,0 +1,72 @@
+package com.mukesh.fxservice.controller;
+
+import com.mukesh.fxservice.dto.RateSeriesResponse;
+import com.mukesh.fxservice.dto.RateStatsResponse;
+import com.mukesh.fxservice.service.RateSeriesService;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api")
+@Validated
+public class RateSeriesController {
+
+    private final RateSeriesService seriesService;
+
+    public RateSeriesController(RateSeriesService seriesService) {
+        this.seriesService = seriesService;
+    }
+
+    @GetMapping("/rates/{currency}/series")
+    public RateSeriesResponse getSeries(
+            @PathVariable
+            @Pattern(regexp = "^[A-Z]{3}$",
+                    message = "Currency must be 3 uppercase letters")
+            String currency,
+
+            @RequestParam
+            @NotNull(message = "From date must not be null")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+
+            @RequestParam
+            @NotNull(message = "To date must not be null")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to
+    ) {
+        return seriesService.getSeries(currency, from, to);
+    }
+
+    @GetMapping("/rates/{currency}/stats")
+    public RateStatsResponse getStats(
+            @PathVariable
+            @Pattern(regexp = "^[A-Z]{3}$",
+                    message = "Currency must be 3 uppercase letters")
+            String currency,
+
+            @RequestParam
+            @NotNull(message = "From date must not be null")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+
+            @RequestParam
+            @NotNull(message = "To date must not be null")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to,
+
+            // format and limit are checked by the service
+            @RequestParam(required = false)
+            String window
+    ) {
+        return seriesService.getStats(currency, from, to, window);
+    }
+}
@@ -0,0 +1,86 @@
+package com.mukesh.fxservice.controller;
+
+import com.mukesh.fxservice.dto.ConversionResponse;
+import com.mukesh.fxservice.dto.ExchangeRateResponse;
+import com.mukesh.fxservice.service.ReactiveExchangeRateService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Reactive variant of the {@link ExchangeRateController} read endpoints, backed by R2DBC.
+ * <p>
+ * Served by Spring MVC's reactive return-value support: the request is processed asynchronously
+ * and no servlet thread waits on the database. {@code /rates/stream} writes NDJSON and requests
+ * the next row from the database only after the previous one has been written, so slow clients
+ * apply backpressure all the way to the query.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+@Validated
+@ConditionalOnProperty(prefix = "app.fx.reactive", name = "enabled", havingValue = "true")
+public class ReactiveExchangeRateController {
+
+    private final ReactiveExchangeRateService service;
+
+    public ReactiveExchangeRateController(ReactiveExchangeRateService service) {
+        this.service = service;
+    }
+
+    @GetMapping("/rates")
+    public Flux<ExchangeRateResponse> getRates(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date,
+            @RequestParam(defaultValue = "0")
+            @Min(value = 0, message = "Page index must be 0 or greater")
+            int page,
+            @RequestParam(defaultValue = "50")
+            @Min(value = 1, message = "Page size must be 1 or greater")
+            @Max(value = ExchangeRateController.MAX_PAGE_SIZE, message = ExchangeRateController.MAX_PAGE_SIZE_MESSAGE)
+            int size) {
+
+        return service.getRates(date, page, size);
+    }
+
+    @GetMapping(value = "/rates/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ExchangeRateResponse> streamRates() {
+        return service.streamRates();
+    }
+
+    @GetMapping("/conversions")
+    public Mono<ConversionResponse> convert(
+            @RequestParam
+            @NotBlank(message = "Currency must not be blank")
+            @Pattern(regexp = "^[A-Z]{3}$",
+                    message = "Currency must be 3 uppercase letters")
+            String currency,
+
+            @RequestParam
+            @Positive(message = "Amount must be positive")
+            BigDecimal amount,
+
+            @RequestParam
+            @NotNull(message = "Date must not be null")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date
+    ) {
+        return service.convert(currency, amount, date);
+    }
+}
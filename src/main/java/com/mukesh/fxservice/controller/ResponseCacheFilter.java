@@ -0,0 +1,185 @@
+package com.mukesh.fxservice.controller;
+
+import com.mukesh.fxservice.cache.ResponseBodyCache;
+import com.mukesh.fxservice.service.ExchangeRateService;
+import com.mukesh.fxservice.service.api.ExchangeRatesLoadedEvent;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves repeated {@code GET /api/rates?date=} and {@code GET /api/currencies} requests from
+ * pre-serialised JSON bytes, optionally gzip-compressed ahead of time. Entries are keyed by
+ * rate snapshot generation, so a load makes them unreachable at once; they are also dropped
+ * when the loader reports new rows.
+ * <p>
+ * Conditional requests bypass the cache and are answered by {@link HttpCacheInterceptor}.
+ */
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final List<String> CACHED_HEADERS =
+            List.of(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL, HttpHeaders.VARY);
+
+    private final ExchangeRateService exchangeRateService;
+    private final boolean enabled;
+    private final boolean gzip;
+    private final ResponseBodyCache<CacheKey> cache;
+
+    public ResponseCacheFilter(ExchangeRateService exchangeRateService,
+                               @Value("${app.fx.response-cache.enabled:true}") boolean enabled,
+                               @Value("${app.fx.response-cache.gzip:true}") boolean gzip,
+                               @Value("${app.fx.response-cache.max-size:16MB}") DataSize maxSize) {
+        this.exchangeRateService = exchangeRateService;
+        this.enabled = enabled;
+        this.gzip = gzip;
+        this.cache = new ResponseBodyCache<>(maxSize.toBytes());
+    }
+
+    @EventListener
+    public void onRatesLoaded(ExchangeRatesLoadedEvent event) {
+        cache.clear();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        String path = path(request);
+        return !("/api/currencies".equals(path)
+                || ("/api/rates".equals(path) && request.getParameter("date") != null));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+
+        long generation = exchangeRateService.getDataGeneration();
+        if (generation == 0 || isConditional(request) || !acceptsJson(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        CacheKey key = new CacheKey(generation, path(request), request.getParameter("date"),
+                request.getParameter("page"), request.getParameter("size"));
+
+        ResponseBodyCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            write(entry, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            store(key, wrapper);
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void store(CacheKey key, ContentCachingResponseWrapper wrapper) throws IOException {
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || !isJson(wrapper.getContentType())) {
+            return;
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : CACHED_HEADERS) {
+            String value = wrapper.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        cache.put(key, new ResponseBodyCache.Entry(wrapper.getContentType(), headers, body,
+                gzip ? compress(body) : null));
+    }
+
+    private void write(ResponseBodyCache.Entry entry,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+
+        byte[] body = entry.body();
+        if (entry.gzipBody() != null && acceptsGzip(request)) {
+            body = entry.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType());
+        entry.headers().forEach(response::setHeader);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] compress(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean isConditional(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    // Only serve cached JSON when every acceptable type admits JSON, so other formats still negotiate.
+    private static boolean acceptsJson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .allMatch(type -> type.includes(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+
+    private record CacheKey(long generation, String path, String date, String page, String size) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.mukesh.fxservice.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * Row shared by all nodes: who may run the refresh until when, and a counter bumped whenever
+ * a refresh has stored new rates. Read and written through {@code RefreshLeaseRepository}.
+ */
+@Entity
+@Table(name = "refresh_lease")
+public class RefreshLease {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(length = 128)
+    private String holder;
+
+    // epoch millis on the database clock; the lease is free once this has passed
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    @Column(name = "data_version", nullable = false)
+    private long dataVersion;
+
+    protected RefreshLease() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHolder() {
+        return holder;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public long getDataVersion() {
+        return dataVersion;
+    }
+}
@@ -0,0 +1,15 @@
+package com.mukesh.fxservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchConversionRequest(
+        @NotEmpty(message = "Conversions must not be empty")
+        @Size(max = BatchConversionRequest.MAX_ITEMS,
+                message = "At most " + BatchConversionRequest.MAX_ITEMS + " conversions per request")
+        List<ConversionRequest> conversions
+) {
+    public static final int MAX_ITEMS = 10_000;
+}
@@ -0,0 +1,11 @@
+package com.mukesh.fxservice.dto;
+
+/**
+ * Outcome of one item of a batch conversion; exactly one of {@code conversion} and {@code error} is set.
+ */
+public record BatchConversionResult(
+        int index,
+        ConversionResponse conversion,
+        String error
+) {
+}
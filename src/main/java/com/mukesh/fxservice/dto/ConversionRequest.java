@@ -0,0 +1,11 @@
+package com.mukesh.fxservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ConversionRequest(
+        String currency,
+        BigDecimal amount,
+        LocalDate date
+) {
+}
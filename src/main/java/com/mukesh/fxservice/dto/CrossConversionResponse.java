@@ -0,0 +1,14 @@
+package com.mukesh.fxservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record CrossConversionResponse(
+        String from,
+        String to,
+        BigDecimal amount,
+        BigDecimal rate,
+        BigDecimal convertedAmount,
+        LocalDate rateDate
+) {
+}
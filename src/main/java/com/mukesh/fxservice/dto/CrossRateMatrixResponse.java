@@ -0,0 +1,14 @@
+package com.mukesh.fxservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * All cross rates of one day: {@code rates.get(from).get(to)} is the number of {@code to} units per {@code from} unit.
+ */
+public record CrossRateMatrixResponse(
+        LocalDate rateDate,
+        Map<String, Map<String, BigDecimal>> rates
+) {
+}
@@ -0,0 +1,19 @@
+package com.mukesh.fxservice.dto;
+
+public enum RateExportFormat {
+
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv"),
+    // RFC 8742 CBOR sequence: one CBOR-encoded ExchangeRateResponse after another
+    CBOR("application/cbor-seq");
+
+    private final String contentType;
+
+    RateExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,13 @@
+package com.mukesh.fxservice.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated rate listing. {@code nextCursor} is {@code null} on the last page.
+ */
+public record RatePageResponse(
+        List<ExchangeRateResponse> content,
+        int size,
+        String nextCursor
+) {
+}
@@ -0,0 +1,10 @@
+package com.mukesh.fxservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RateSeriesPoint(
+        LocalDate date,
+        BigDecimal rate
+) {
+}
@@ -0,0 +1,12 @@
+package com.mukesh.fxservice.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record RateSeriesResponse(
+        String currency,
+        LocalDate from,
+        LocalDate to,
+        List<RateSeriesPoint> points
+) {
+}
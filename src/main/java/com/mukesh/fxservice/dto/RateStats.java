@@ -0,0 +1,19 @@
+package com.mukesh.fxservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Aggregates of the observations between {@code from} and {@code to} (both inclusive).
+ * {@code stddev} is the population standard deviation.
+ */
+public record RateStats(
+        LocalDate from,
+        LocalDate to,
+        int count,
+        BigDecimal min,
+        BigDecimal max,
+        BigDecimal average,
+        BigDecimal stddev
+) {
+}
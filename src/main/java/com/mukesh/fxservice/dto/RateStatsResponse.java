@@ -0,0 +1,15 @@
+package com.mukesh.fxservice.dto;
+
+import java.util.List;
+
+/**
+ * Overall statistics of the requested range plus, when a window was requested, one trailing
+ * window ending on each observation day of the range.
+ */
+public record RateStatsResponse(
+        String currency,
+        RateStats overall,
+        Integer windowDays,
+        List<RateStats> windows
+) {
+}
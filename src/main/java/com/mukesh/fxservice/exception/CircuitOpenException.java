@@ -0,0 +1,12 @@
+package com.mukesh.fxservice.exception;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Thrown instead of calling an upstream whose circuit breaker is open.
+ */
+public class CircuitOpenException extends RestClientException {
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
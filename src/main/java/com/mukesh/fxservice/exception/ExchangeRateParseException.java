@@ -0,0 +1,7 @@
+package com.mukesh.fxservice.exception;
+
+public class ExchangeRateParseException extends RuntimeException {
+    public ExchangeRateParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.mukesh.fxservice.exception;
+
+public class InvalidRangeException extends RuntimeException {
+    public InvalidRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,213 @@
+package com.mukesh.fxservice.external.impl;
+
+import com.mukesh.fxservice.config.BundesbankClientProperties;
+import com.mukesh.fxservice.exception.CircuitOpenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Downloads Bundesbank series. Transient failures (I/O errors, 5xx and 429 responses) are retried
+ * up to {@code bundesbank.client.max-attempts} times with exponential, jittered backoff; calls that
+ * still fail count towards a circuit breaker that rejects further calls while the upstream is down.
+ */
+@Component
+public class BundesbankClient {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(BundesbankClient.class);
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final String formatSuffix;
+    private final BundesbankClientProperties properties;
+    private final CircuitBreaker circuitBreaker;
+
+    public BundesbankClient(RestTemplate restTemplate,
+                            @Value("${bundesbank.base-url}") String baseUrl,
+                            @Value("${bundesbank.format-suffix}") String formatSuffix,
+                            BundesbankClientProperties properties) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.formatSuffix = formatSuffix;
+        this.properties = properties;
+        this.circuitBreaker = new CircuitBreaker(properties.getFailureThreshold(),
+                properties.getOpenDuration(), Clock.systemUTC());
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public String fetchExchangeRatesCsv(String currency) {
+        return fetch(currency, seriesUrl(currency));
+    }
+
+    /**
+     * Fetches only observations on or after {@code startPeriod} using the SDMX {@code startPeriod} parameter.
+     */
+    public String fetchExchangeRatesCsv(String currency, LocalDate startPeriod) {
+        return fetch(currency, withStartPeriod(seriesUrl(currency), startPeriod));
+    }
+
+    /**
+     * Streams the series to {@code handler} while it is being downloaded instead of buffering the
+     * whole body. {@code startPeriod} may be {@code null} to fetch the full history.
+     */
+    public <T> T streamExchangeRatesCsv(String currency, LocalDate startPeriod, ReaderCallback<T> handler) {
+        String url = startPeriod == null ? seriesUrl(currency) : withStartPeriod(seriesUrl(currency), startPeriod);
+
+        // A retried download starts over; the loader skips rows it already stored.
+        return execute(currency, () -> {
+            log.debug("Streaming exchange rates from {}", url);
+            return restTemplate.execute(url, HttpMethod.GET, null, response -> {
+                FailureRecordingInputStream body = new FailureRecordingInputStream(response.getBody());
+                try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+                    return handler.handle(reader);
+                } catch (RuntimeException ex) {
+                    // The handler sees a broken download as unreadable input; rethrown as an IOException,
+                    // RestTemplate reports it as a ResourceAccessException, which is retried.
+                    if (body.failure != null) {
+                        body.failure.addSuppressed(ex);
+                        throw body.failure;
+                    }
+                    throw ex;
+                }
+            });
+        });
+    }
+
+    private String seriesUrl(String currency) {
+        return String.format("%s/D.%s.%s", baseUrl, currency, formatSuffix);
+    }
+
+    private String withStartPeriod(String url, LocalDate startPeriod) {
+        return url + (url.contains("?") ? "&" : "?") + "startPeriod=" + startPeriod;
+    }
+
+    @FunctionalInterface
+    public interface ReaderCallback<T> {
+        T handle(Reader reader) throws IOException;
+    }
+
+    private String fetch(String currency, String url) {
+        String response = execute(currency, () -> {
+            log.debug("Fetching exchange rates from {}", url);
+            return restTemplate.getForObject(url, String.class);
+        });
+        if (response == null) {
+            throw new RestClientException("Empty response from Bundesbank for currency: " + currency);
+        }
+        return response;
+    }
+
+    private <T> T execute(String currency, Supplier<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new CircuitOpenException("Bundesbank circuit breaker is open, skipping " + currency);
+        }
+        try {
+            T result = withRetries(currency, call);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (RuntimeException ex) {
+            // Client errors and parse failures say nothing about the health of the upstream.
+            if (isTransient(ex)) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.release();
+            }
+            throw ex;
+        }
+    }
+
+    private <T> T withRetries(String currency, Supplier<T> call) {
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException ex) {
+                if (attempt >= maxAttempts || !isTransient(ex)) {
+                    throw ex;
+                }
+                long backoffMillis = backoffMillis(attempt);
+                log.warn("Fetching {} failed (attempt {}/{}), retrying in {} ms: {}",
+                        currency, attempt, maxAttempts, backoffMillis, ex.getMessage());
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    // Exponential backoff capped at max-backoff, with "equal jitter": half fixed, half random, so that
+    // the currencies of a failed refresh do not retry in lockstep.
+    private long backoffMillis(int attempt) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long cap = Math.min(properties.getMaxBackoff().toMillis(), initial << Math.min(attempt - 1, 20));
+        long half = cap / 2;
+        return half + ThreadLocalRandom.current().nextLong(cap - half + 1);
+    }
+
+    private static boolean isTransient(RuntimeException ex) {
+        return ex instanceof ResourceAccessException
+                || ex instanceof HttpServerErrorException
+                || ex instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    // Remembers the first error raised while reading the response body, so that a connection lost
+    // mid-download can be told apart from a body that was received in full but could not be parsed.
+    private static final class FailureRecordingInputStream extends FilterInputStream {
+
+        private IOException failure;
+
+        FailureRecordingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException ex) {
+                return fail(ex);
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            try {
+                return super.read(buffer, offset, length);
+            } catch (IOException ex) {
+                return fail(ex);
+            }
+        }
+
+        private int fail(IOException ex) throws IOException {
+            if (failure == null) {
+                failure = ex;
+            }
+            throw ex;
+        }
+    }
+}
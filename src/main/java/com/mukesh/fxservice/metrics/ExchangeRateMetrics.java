@@ -0,0 +1,188 @@
+package com.mukesh.fxservice.metrics;
+
+import com.mukesh.fxservice.service.api.CurrencyRefreshResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Meters for the conversion, lookup and loader hot paths. Conversion timers publish p50/p95/p99 and
+ * a percentile histogram so they can be aggregated across instances in Prometheus. Timers tagged by
+ * currency publish percentiles only: a histogram adds dozens of bucket series per tag combination.
+ * <p>
+ * Tagged meters are created on first use and kept, so recording does not allocate a meter id.
+ */
+@Component
+public class ExchangeRateMetrics {
+
+    public static final String CONVERSION = "fx.conversion";
+    public static final String CONVERSION_BATCH_SIZE = "fx.conversion.batch.size";
+    public static final String RATE_LOOKUPS = "fx.rate.lookups";
+    public static final String DATABASE_LOOKUPS = "fx.db.lookups";
+    public static final String RATE_LIMITED = "fx.requests.rate.limited";
+    public static final String BUNDESBANK_FETCH = "fx.bundesbank.fetch";
+    public static final String LOADER_PARSE = "fx.loader.parse";
+    public static final String LOADER_PERSIST = "fx.loader.persist";
+    public static final String LOADER_ROWS_INSERTED = "fx.loader.rows.inserted";
+    public static final String LOADER_REFRESH = "fx.loader.refresh";
+    public static final String SCHEDULED_REFRESH = "fx.refresh.scheduled";
+
+    private final MeterRegistry registry;
+
+    private final Timer singleConversions;
+    private final Timer batchConversions;
+    private final Timer crossConversions;
+    private final DistributionSummary batchSizes;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Timer scheduledRefreshes;
+
+    private final ConcurrentMap<String, Counter> databaseLookups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> rateLimited = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> fetchTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> parseTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> persistTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> insertedRows = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> refreshTimers = new ConcurrentHashMap<>();
+
+    public ExchangeRateMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.singleConversions = conversionTimer("single");
+        this.batchConversions = conversionTimer("batch");
+        this.crossConversions = conversionTimer("cross");
+        this.batchSizes = DistributionSummary.builder(CONVERSION_BATCH_SIZE)
+                .description("Number of conversions per batch request")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        this.cacheHits = lookupCounter("hit");
+        this.cacheMisses = lookupCounter("miss");
+        this.scheduledRefreshes = Timer.builder(SCHEDULED_REFRESH)
+                .description("Duration of scheduled refreshes of all currencies")
+                .register(registry);
+    }
+
+    /**
+     * Metrics that are recorded nowhere, for code paths built outside the application context.
+     */
+    public static ExchangeRateMetrics noop() {
+        return new ExchangeRateMetrics(new CompositeMeterRegistry());
+    }
+
+    public void recordConversion(long startedNanos) {
+        singleConversions.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBatchConversion(long startedNanos, int size) {
+        batchConversions.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+        batchSizes.record(size);
+    }
+
+    public void recordCrossConversion(long startedNanos) {
+        crossConversions.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCacheLookup(boolean hit) {
+        (hit ? cacheHits : cacheMisses).increment();
+    }
+
+    /**
+     * @param coalesced whether the lookup joined one already running for the same key instead of
+     *                  querying the database
+     */
+    public void recordDatabaseLookup(String lookup, boolean coalesced) {
+        String result = coalesced ? "coalesced" : "executed";
+        tagged(databaseLookups, lookup + '|' + result, key -> Counter.builder(DATABASE_LOOKUPS)
+                .description("Database lookups after a rate matrix miss, by whether they were coalesced")
+                .tag("lookup", lookup)
+                .tag("result", result)
+                .register(registry))
+                .increment();
+    }
+
+    public void recordRateLimited(String quota) {
+        tagged(rateLimited, quota, q -> Counter.builder(RATE_LIMITED)
+                .description("Requests rejected with 429 because the client's quota was used up")
+                .tag("quota", q)
+                .register(registry))
+                .increment();
+    }
+
+    public void recordFetch(String currency, long nanos, boolean success) {
+        String outcome = success ? "success" : "error";
+        tagged(fetchTimers, currency + '|' + outcome, key -> Timer.builder(BUNDESBANK_FETCH)
+                .description("Latency of Bundesbank series downloads")
+                .tag("currency", currency)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordParse(String currency, long nanos) {
+        tagged(parseTimers, currency, c -> Timer.builder(LOADER_PARSE)
+                .description("Time spent parsing Bundesbank CSV, excluding persistence")
+                .tag("currency", c)
+                .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPersist(String currency, long nanos, int inserted) {
+        tagged(persistTimers, currency, c -> Timer.builder(LOADER_PERSIST)
+                .description("Time spent storing parsed rates")
+                .tag("currency", c)
+                .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (inserted > 0) {
+            tagged(insertedRows, currency, c -> Counter.builder(LOADER_ROWS_INSERTED)
+                    .description("Rate rows inserted by the loader")
+                    .tag("currency", c)
+                    .register(registry))
+                    .increment(inserted);
+        }
+    }
+
+    public void recordRefresh(CurrencyRefreshResult result) {
+        String outcome = result.status().name().toLowerCase(Locale.ROOT);
+        tagged(refreshTimers, result.currency() + '|' + outcome, key -> Timer.builder(LOADER_REFRESH)
+                .description("Duration of one currency refresh: fetch, parse and persist")
+                .tag("currency", result.currency())
+                .tag("outcome", outcome)
+                .register(registry))
+                .record(result.duration());
+    }
+
+    public void recordScheduledRefresh(Duration elapsed) {
+        scheduledRefreshes.record(elapsed);
+    }
+
+    private Timer conversionTimer(String type) {
+        return Timer.builder(CONVERSION)
+                .description("Latency of conversions including the rate lookup")
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder(RATE_LOOKUPS)
+                .description("Rate lookups by whether the in-memory rate matrix answered them")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static <M> M tagged(ConcurrentMap<String, M> meters, String key, Function<String, M> factory) {
+        M meter = meters.get(key);
+        return meter != null ? meter : meters.computeIfAbsent(key, factory);
+    }
+}
@@ -0,0 +1,59 @@
+package com.mukesh.fxservice.metrics;
+
+import com.mukesh.fxservice.cache.CurrencySeries;
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.config.CurrencyProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Publishes {@code fx.rates.lag}: the age in days of the newest stored rate date of every
+ * supported currency, read from the current rate snapshot. Currencies without any stored rate
+ * report {@code NaN}.
+ */
+@Component
+public class RefreshLagMetrics implements MeterBinder {
+
+    public static final String RATES_LAG = "fx.rates.lag";
+
+    private final ExchangeRateCache rateCache;
+    private final CurrencyProperties currencyProperties;
+    private final Clock clock;
+
+    @Autowired
+    public RefreshLagMetrics(ExchangeRateCache rateCache, CurrencyProperties currencyProperties) {
+        this(rateCache, currencyProperties, Clock.systemDefaultZone());
+    }
+
+    RefreshLagMetrics(ExchangeRateCache rateCache, CurrencyProperties currencyProperties, Clock clock) {
+        this.rateCache = rateCache;
+        this.currencyProperties = currencyProperties;
+        this.clock = clock;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String currency : currencyProperties.getSupportedCurrencies()) {
+            Gauge.builder(RATES_LAG, this, metrics -> metrics.lagDays(currency))
+                    .description("Days since the newest stored rate date")
+                    .baseUnit("days")
+                    .tag("currency", currency)
+                    .register(registry);
+        }
+    }
+
+    double lagDays(String currency) {
+        CurrencySeries series = rateCache.getMatrix().getSeries(currency);
+        if (series == null || series.size() == 0) {
+            return Double.NaN;
+        }
+        return ChronoUnit.DAYS.between(series.getLastDate(), LocalDate.now(clock));
+    }
+}
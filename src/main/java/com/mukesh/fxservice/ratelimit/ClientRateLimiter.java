@@ -0,0 +1,155 @@
+package com.mukesh.fxservice.ratelimit;
+
+import com.mukesh.fxservice.config.RateLimitProperties;
+import com.mukesh.fxservice.exception.RateLimitExceededException;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client request quotas for the API. Every client gets its own {@link TokenBucket} per quota;
+ * a request is charged to the most specific endpoint quota whose path pattern matches, or to the
+ * default quota otherwise.
+ * <p>
+ * Buckets live in a concurrent map, so requests never wait on each other. Once more than
+ * {@code max-tracked-clients} buckets are tracked, the next new client triggers one sweep that
+ * drops every bucket which has refilled completely and, if that is not enough, the buckets that
+ * would refill soonest, down to nine tenths of the limit. A dropped bucket comes back full, so
+ * eviction can only ever favour a client, and it hits quiet clients first.
+ */
+@Component
+public class ClientRateLimiter {
+
+    static final String DEFAULT_QUOTA = "default";
+
+    private final boolean enabled;
+    private final int maxTrackedClients;
+    private final Limit defaultLimit;
+    private final List<Limit> endpointLimits;
+    private final ExchangeRateMetrics metrics;
+    private final LongSupplier nanoClock;
+    private final int evictionTarget;
+    private final ConcurrentMap<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    @Autowired
+    public ClientRateLimiter(RateLimitProperties properties, ExchangeRateMetrics metrics) {
+        this(properties, metrics, System::nanoTime);
+    }
+
+    ClientRateLimiter(RateLimitProperties properties, ExchangeRateMetrics metrics, LongSupplier nanoClock) {
+        this.enabled = properties.isEnabled();
+        this.maxTrackedClients = Math.max(1, properties.getMaxTrackedClients());
+        this.evictionTarget = maxTrackedClients - Math.max(1, maxTrackedClients / 10);
+        this.defaultLimit = new Limit(DEFAULT_QUOTA, null, properties.getDefaultQuota());
+        List<Limit> limits = new ArrayList<>();
+        properties.getEndpoints().forEach((name, quota) -> limits.add(
+                new Limit(name, PathPatternParser.defaultInstance.parse(quota.getPath()), quota)));
+        limits.sort(Comparator.comparing(Limit::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+        this.endpointLimits = List.copyOf(limits);
+        this.metrics = metrics;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one request from {@code clientId}'s quota for {@code path}.
+     *
+     * @throws RateLimitExceededException if the quota is used up
+     */
+    public void acquire(String path, String clientId) {
+        acquire(path, clientId, 1);
+    }
+
+    /**
+     * Takes {@code permits} requests at once, e.g. one per item of a batch. A single call never
+     * costs more than the quota's full burst.
+     *
+     * @throws RateLimitExceededException if the quota is used up
+     */
+    public void acquire(String path, String clientId, int permits) {
+        if (!enabled) {
+            return;
+        }
+
+        Limit limit = limitFor(path);
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = bucketFor(new BucketKey(limit.name(), clientId), limit, now);
+
+        long waitNanos = bucket.tryAcquire(now, permits);
+        if (waitNanos > 0) {
+            metrics.recordRateLimited(limit.name());
+            throw new RateLimitExceededException(
+                    "Rate limit of " + limit.quota().getRequests() + " requests per " + limit.quota().getPer()
+                            + " exceeded for " + limit.name(),
+                    Duration.ofNanos(waitNanos));
+        }
+    }
+
+    int trackedBuckets() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucketFor(BucketKey key, Limit limit, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxTrackedClients) {
+            evict(now);
+        }
+        return buckets.computeIfAbsent(key,
+                k -> new TokenBucket(limit.quota().getRequests(), limit.quota().getPer(), now));
+    }
+
+    // Only one thread sweeps; the others carry on and may briefly push the map past the limit.
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.refilledAt() - now <= 0);
+            int excess = buckets.size() - evictionTarget;
+            if (excess > 0) {
+                long[] refilledAt = buckets.values().stream()
+                        .mapToLong(TokenBucket::refilledAt)
+                        .map(at -> at - now)
+                        .sorted()
+                        .toArray();
+                if (refilledAt.length > 0) {
+                    long cutoff = refilledAt[Math.min(excess, refilledAt.length) - 1];
+                    buckets.values().removeIf(bucket -> bucket.refilledAt() - now <= cutoff);
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private Limit limitFor(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Limit limit : endpointLimits) {
+            if (limit.pattern().matches(container)) {
+                return limit;
+            }
+        }
+        return defaultLimit;
+    }
+
+    private record Limit(String name, PathPattern pattern, RateLimitProperties.Quota quota) {
+    }
+
+    private record BucketKey(String quota, String clientId) {
+    }
+}
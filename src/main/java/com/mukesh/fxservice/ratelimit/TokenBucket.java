@@ -0,0 +1,61 @@
+package com.mukesh.fxservice.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: instead of a token count it keeps the theoretical
+ * arrival time of the next request, so taking a token is a single compare-and-set on one long.
+ * A bucket of {@code requests} per {@code per} refills one token every {@code per / requests}
+ * and holds at most {@code requests} tokens.
+ * <p>
+ * Taking {@code n} tokens at once moves the arrival time {@code n} intervals ahead. A request never
+ * costs more than a full bucket, so oversized requests still pass once the bucket has refilled.
+ */
+final class TokenBucket {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int requests, Duration per, long nowNanos) {
+        this.capacity = Math.max(1, requests);
+        this.intervalNanos = Math.max(1, per.toNanos() / capacity);
+        this.burstToleranceNanos = intervalNanos * (capacity - 1L);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return zero if a token was taken, otherwise the nanoseconds until one becomes available
+     */
+    long tryAcquire(long nowNanos) {
+        return tryAcquire(nowNanos, 1);
+    }
+
+    /**
+     * @return zero if {@code permits} tokens were taken, otherwise the nanoseconds until they become available
+     */
+    long tryAcquire(long nowNanos, int permits) {
+        long cost = intervalNanos * Math.min(Math.max(1, permits), capacity);
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long start = arrival - nowNanos > 0 ? arrival : nowNanos;
+            long wait = start + cost - intervalNanos - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + cost)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return the time at which the bucket is full again if nothing more is taken; at or before
+     * {@code nowNanos} it already is
+     */
+    long refilledAt() {
+        return theoreticalArrival.get();
+    }
+}
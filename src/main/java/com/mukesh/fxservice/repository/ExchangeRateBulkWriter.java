@@ -0,0 +1,64 @@
+package com.mukesh.fxservice.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts rates with batched JDBC {@code MERGE} statements instead of JPA entities. Rows that
+ * already exist are left untouched by the {@code (currency, rate_date)} match, so no
+ * read-before-write is needed and the update count equals the number of inserted rows.
+ */
+@Repository
+public class ExchangeRateBulkWriter {
+
+    private static final String INSERT_MISSING_SQL = """
+            MERGE INTO exchange_rates t
+            USING (VALUES (CAST(? AS VARCHAR(3)), CAST(? AS DECIMAL(19, 6)), CAST(? AS DATE)))
+                AS s(currency, rate, rate_date)
+            ON t.currency = s.currency AND t.rate_date = s.rate_date
+            WHEN NOT MATCHED THEN
+                INSERT (currency, rate, rate_date) VALUES (s.currency, s.rate, s.rate_date)
+            """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExchangeRateBulkWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return the number of rows that were not yet stored and have been inserted
+     */
+    @Transactional
+    public int insertMissing(String currency, Map<LocalDate, BigDecimal> rates) {
+        if (rates.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rows = new ArrayList<>(rates.size());
+        rates.forEach((date, rate) -> rows.add(new Object[]{currency, rate, Date.valueOf(date)}));
+
+        int inserted = 0;
+        for (int[] batch : jdbcTemplate.batchUpdate(INSERT_MISSING_SQL, rows, BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setString(1, (String) row[0]);
+                    ps.setBigDecimal(2, (BigDecimal) row[1]);
+                    ps.setDate(3, (Date) row[2]);
+                })) {
+            for (int count : batch) {
+                inserted += Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+}
@@ -1,21 +1,62 @@
 package com.mukesh.fxservice.repository;
 
 import com.mukesh.fxservice.domain.ExchangeRate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long> {
 
     Optional<ExchangeRate> findByCurrencyAndRateDate(String currency, LocalDate rateDate);
 
+    Optional<ExchangeRate> findTopByCurrencyAndRateDateLessThanEqualOrderByRateDateDesc(String currency,
+                                                                                        LocalDate rateDate);
+
     Page<ExchangeRate> findByRateDate(LocalDate rateDate, Pageable pageable);
 
     List<ExchangeRate> findByCurrencyAndRateDateIn(String currency, Collection<LocalDate> rateDates);
 
+    List<ExchangeRate> findByCurrencyInAndRateDateIn(Collection<String> currencies, Collection<LocalDate> rateDates);
+
+    List<ExchangeRate> findByCurrencyAndRateDateBetweenOrderByRateDateAsc(String currency,
+                                                                          LocalDate from,
+                                                                          LocalDate to);
+
+    @Query("select max(r.rateDate) from ExchangeRate r where r.currency = :currency")
+    Optional<LocalDate> findLatestRateDate(@Param("currency") String currency);
+
+    // Keyset pagination over the (currency, rate_date) index: Slice queries fetch size + 1 rows and skip the count.
+    Slice<ExchangeRate> findAllByOrderByCurrencyAscRateDateAsc(Pageable pageable);
+
+    // Row-value comparison; the redundant bound on the leading column lets databases that do not seek
+    // on row values (H2 among them) still start an index range scan at the cursor.
+    @Query("select r from ExchangeRate r "
+            + "where (r.currency, r.rateDate) > (:currency, :rateDate) and r.currency >= :currency "
+            + "order by r.currency, r.rateDate")
+    Slice<ExchangeRate> findPageAfter(@Param("currency") String currency,
+                                      @Param("rateDate") LocalDate rateDate,
+                                      Pageable pageable);
+
+    Slice<ExchangeRate> findByRateDateOrderByCurrencyAsc(LocalDate rateDate, Pageable pageable);
+
+    Slice<ExchangeRate> findByRateDateAndCurrencyGreaterThanOrderByCurrencyAsc(LocalDate rateDate,
+                                                                              String currency,
+                                                                              Pageable pageable);
+
+    // Must be consumed inside a transaction and closed by the caller.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ExchangeRate> streamAllByOrderByCurrencyAscRateDateAsc();
+
 }
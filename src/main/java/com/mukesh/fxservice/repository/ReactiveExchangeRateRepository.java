@@ -0,0 +1,77 @@
+package com.mukesh.fxservice.repository;
+
+import com.mukesh.fxservice.domain.ExchangeRate;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * R2DBC counterpart of the read queries in {@link ExchangeRateRepository}, used by the reactive
+ * read API. Rows are emitted as the subscriber requests them.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.fx.reactive", name = "enabled", havingValue = "true")
+public class ReactiveExchangeRateRepository {
+
+    private static final String SELECT = "SELECT currency, rate, rate_date FROM exchange_rates ";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveExchangeRateRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<ExchangeRate> findAll(long offset, int limit) {
+        return databaseClient.sql(SELECT + "ORDER BY currency, rate_date LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveExchangeRateRepository::toRate)
+                .all();
+    }
+
+    public Flux<ExchangeRate> findByRateDate(LocalDate rateDate, long offset, int limit) {
+        return databaseClient.sql(SELECT + "WHERE rate_date = :rateDate ORDER BY currency LIMIT :limit OFFSET :offset")
+                .bind("rateDate", rateDate)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveExchangeRateRepository::toRate)
+                .all();
+    }
+
+    // Full history in (currency, rate_date) order, like streamAllByOrderByCurrencyAscRateDateAsc.
+    public Flux<ExchangeRate> streamAll() {
+        return databaseClient.sql(SELECT + "ORDER BY currency, rate_date")
+                .map(ReactiveExchangeRateRepository::toRate)
+                .all();
+    }
+
+    public Mono<ExchangeRate> findByCurrencyAndRateDate(String currency, LocalDate rateDate) {
+        return databaseClient.sql(SELECT + "WHERE currency = :currency AND rate_date = :rateDate")
+                .bind("currency", currency)
+                .bind("rateDate", rateDate)
+                .map(ReactiveExchangeRateRepository::toRate)
+                .one();
+    }
+
+    public Mono<ExchangeRate> findLatestOnOrBefore(String currency, LocalDate rateDate) {
+        return databaseClient.sql(SELECT
+                        + "WHERE currency = :currency AND rate_date <= :rateDate ORDER BY rate_date DESC LIMIT 1")
+                .bind("currency", currency)
+                .bind("rateDate", rateDate)
+                .map(ReactiveExchangeRateRepository::toRate)
+                .one();
+    }
+
+    private static ExchangeRate toRate(Readable row) {
+        return new ExchangeRate(
+                row.get("currency", String.class),
+                row.get("rate", BigDecimal.class),
+                row.get("rate_date", LocalDate.class));
+    }
+}
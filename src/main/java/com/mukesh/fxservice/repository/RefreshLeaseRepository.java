@@ -0,0 +1,84 @@
+package com.mukesh.fxservice.repository;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Compare-and-set operations on the {@code refresh_lease} table. Every change is a single
+ * conditional {@code UPDATE}, so the database decides which node wins a race.
+ */
+@Repository
+public class RefreshLeaseRepository {
+
+    private static final String CREATE_IF_MISSING_SQL = """
+            MERGE INTO refresh_lease t
+            USING (VALUES (CAST(? AS VARCHAR(64)))) AS s(name)
+            ON t.name = s.name
+            WHEN NOT MATCHED THEN
+                INSERT (name, holder, expires_at, data_version) VALUES (s.name, NULL, 0, 0)
+            """;
+
+    // Expiry is measured on the database clock, so clock skew between nodes cannot let two of them
+    // hold the lease at once.
+    private static final String DATABASE_NOW_MILLIS =
+            "CAST(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000 AS BIGINT)";
+
+    private static final String ACQUIRE_SQL = """
+            UPDATE refresh_lease SET holder = ?, expires_at = %s + ?
+            WHERE name = ? AND expires_at <= %s
+            """.formatted(DATABASE_NOW_MILLIS, DATABASE_NOW_MILLIS);
+
+    private static final String RELEASE_SQL =
+            "UPDATE refresh_lease SET expires_at = 0 WHERE name = ? AND holder = ?";
+
+    private static final String INCREMENT_VERSION_SQL =
+            "UPDATE refresh_lease SET data_version = data_version + 1 WHERE name = ?";
+
+    private static final String VERSION_SQL =
+            "SELECT data_version FROM refresh_lease WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RefreshLeaseRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void createIfMissing(String name) {
+        try {
+            jdbcTemplate.update(CREATE_IF_MISSING_SQL, name);
+        } catch (DataIntegrityViolationException ex) {
+            // another node inserted the row concurrently
+        }
+    }
+
+    /**
+     * Takes the lease if it is free or expired. A holder cannot take it again before it expires.
+     *
+     * @return whether {@code holder} now holds the lease for {@code durationMillis} of database time
+     */
+    public boolean tryAcquire(String name, String holder, long durationMillis) {
+        return jdbcTemplate.update(ACQUIRE_SQL, holder, durationMillis, name) == 1;
+    }
+
+    public void release(String name, String holder) {
+        jdbcTemplate.update(RELEASE_SQL, name, holder);
+    }
+
+    /**
+     * @return the data version after the increment
+     */
+    @Transactional
+    public long incrementDataVersion(String name) {
+        jdbcTemplate.update(INCREMENT_VERSION_SQL, name);
+        return findDataVersion(name);
+    }
+
+    public long findDataVersion(String name) {
+        List<Long> versions = jdbcTemplate.queryForList(VERSION_SQL, Long.class, name);
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+}
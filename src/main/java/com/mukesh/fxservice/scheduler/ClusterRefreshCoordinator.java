@@ -0,0 +1,134 @@
+package com.mukesh.fxservice.scheduler;
+
+import com.mukesh.fxservice.config.ClusterProperties;
+import com.mukesh.fxservice.repository.RefreshLeaseRepository;
+import com.mukesh.fxservice.service.api.ExchangeRatesLoadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coordinates refreshes between nodes sharing one database when {@code app.fx.cluster.enabled} is set.
+ * <p>
+ * Only the node holding the {@code refresh_lease} row may run a scheduled refresh. The lease is kept
+ * until it expires (measured on the database clock), so nodes whose cron fires a little later skip
+ * the same run. If the refresh fails the lease is released early; the other nodes have already
+ * skipped this run, so this only keeps the next refresh from waiting for the expiry. Whenever the
+ * loader on a node stores new rates (a scheduled refresh, a manual one, or a fetch that finished
+ * after the refresh deadline) that node bumps the lease's data version, and every other node polls
+ * that version and rebuilds its in-process state by publishing {@link ExchangeRatesLoadedEvent}
+ * locally.
+ * <p>
+ * When clustering is disabled every node is its own leader and nothing touches the lease table.
+ */
+@Component
+public class ClusterRefreshCoordinator {
+
+    static final String LEASE_NAME = "fx-refresh";
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ClusterRefreshCoordinator.class);
+
+    private final RefreshLeaseRepository leases;
+    private final ClusterProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Guards lastSeenVersion so the leader's own change is not picked up again by its poller.
+    private final ReentrantLock versionLock = new ReentrantLock();
+    private long lastSeenVersion;
+
+    public ClusterRefreshCoordinator(RefreshLeaseRepository leases,
+                                     ClusterProperties properties,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.leases = leases;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        leases.createIfMissing(LEASE_NAME);
+        versionLock.lock();
+        try {
+            // The rate cache was just built from the database, so this version is already reflected.
+            lastSeenVersion = leases.findDataVersion(LEASE_NAME);
+        } finally {
+            versionLock.unlock();
+        }
+        log.info("Cluster refresh coordination enabled as node {}", properties.getNodeId());
+    }
+
+    /**
+     * @return whether this node may run the refresh now
+     */
+    public boolean tryAcquireLease() {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        return leases.tryAcquire(LEASE_NAME, properties.getNodeId(),
+                properties.getLeaseDuration().toMillis());
+    }
+
+    public void releaseLease() {
+        if (properties.isEnabled()) {
+            leases.release(LEASE_NAME, properties.getNodeId());
+        }
+    }
+
+    /**
+     * Tells the other nodes about rates this node's loader has stored. Events published by
+     * {@link #pollForChanges()} carry no rows and are not passed on again.
+     */
+    @EventListener
+    public void onRatesLoaded(ExchangeRatesLoadedEvent event) {
+        if (event.insertedRows() > 0) {
+            publishChange();
+        }
+    }
+
+    /**
+     * Tells the other nodes that new rates have been stored.
+     */
+    public void publishChange() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        versionLock.lock();
+        try {
+            lastSeenVersion = leases.incrementDataVersion(LEASE_NAME);
+        } finally {
+            versionLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.fx.cluster.poll-interval:PT30S}",
+            initialDelayString = "${app.fx.cluster.poll-interval:PT30S}")
+    public void pollForChanges() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        versionLock.lock();
+        try {
+            long version = leases.findDataVersion(LEASE_NAME);
+            if (version == lastSeenVersion) {
+                return;
+            }
+            lastSeenVersion = version;
+        } finally {
+            versionLock.unlock();
+        }
+
+        log.info("Rates were updated by another node, refreshing local state");
+        eventPublisher.publishEvent(new ExchangeRatesLoadedEvent(Set.of(), 0));
+    }
+}
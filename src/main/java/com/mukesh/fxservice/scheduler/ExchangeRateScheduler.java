@@ -1,11 +1,15 @@
 package com.mukesh.fxservice.scheduler;
 
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
 import com.mukesh.fxservice.service.api.ExchangeRateLoader;
+import com.mukesh.fxservice.service.api.RefreshReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 public class ExchangeRateScheduler {
 
@@ -13,16 +17,36 @@ public class ExchangeRateScheduler {
             LoggerFactory.getLogger(ExchangeRateScheduler.class);
 
     private final ExchangeRateLoader loader;
+    private final ExchangeRateMetrics metrics;
+    private final ClusterRefreshCoordinator coordinator;
 
-    public ExchangeRateScheduler(ExchangeRateLoader loader) {
+    public ExchangeRateScheduler(ExchangeRateLoader loader,
+                                 ExchangeRateMetrics metrics,
+                                 ClusterRefreshCoordinator coordinator) {
         this.loader = loader;
+        this.metrics = metrics;
+        this.coordinator = coordinator;
     }
 
     @Scheduled(cron = "${app.fx.refresh-cron}")
     public void refreshRates() {
 
+        if (!coordinator.tryAcquireLease()) {
+            log.info("Skipping scheduled FX refresh: another node holds the refresh lease");
+            return;
+        }
+
         log.info("Starting scheduled FX refresh");
-        loader.fetchAndLoadAllCurrencyRates();
-        log.info("Completed scheduled FX refresh");
+        long started = System.nanoTime();
+        RefreshReport report;
+        try {
+            report = loader.fetchAndLoadAllCurrencyRates();
+        } catch (RuntimeException ex) {
+            coordinator.releaseLease();
+            throw ex;
+        }
+        metrics.recordScheduledRefresh(Duration.ofNanos(System.nanoTime() - started));
+        // the coordinator tells the other nodes about new rows when the loader publishes them
+        log.info("Completed scheduled FX refresh: {}", report);
     }
 }
@@ -0,0 +1,156 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.dto.CrossConversionResponse;
+import com.mukesh.fxservice.dto.CrossRateMatrixResponse;
+import com.mukesh.fxservice.exception.RateNotFoundException;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Converts between any two currencies by triangulating through the stored EUR reference rates.
+ */
+@Service
+public class CrossRateService {
+
+    static final String BASE_CURRENCY = "EUR";
+    static final int CROSS_RATE_SCALE = 10;
+    static final int MAX_CACHED_MATRICES = 366;
+
+    private final ExchangeRateService exchangeRateService;
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final ExchangeRateCache rateCache;
+    private final ExchangeRateMetrics metrics;
+
+    // Matrices are computed once per (load generation, date) and then served as-is. Beyond
+    // MAX_CACHED_MATRICES dates the least recently requested one is dropped, so a scan over old
+    // dates cannot flush the ones in regular use.
+    private final ReentrantLock matricesLock = new ReentrantLock();
+    private final LinkedHashMap<LocalDate, CachedMatrix> matrices = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LocalDate, CachedMatrix> eldest) {
+            return size() > MAX_CACHED_MATRICES;
+        }
+    };
+
+    public CrossRateService(ExchangeRateService exchangeRateService,
+                            ExchangeRateRepository exchangeRateRepository,
+                            ExchangeRateCache rateCache,
+                            ExchangeRateMetrics metrics) {
+        this.exchangeRateService = exchangeRateService;
+        this.exchangeRateRepository = exchangeRateRepository;
+        this.rateCache = rateCache;
+        this.metrics = metrics;
+    }
+
+    public CrossConversionResponse convert(String inputFrom,
+                                           String inputTo,
+                                           BigDecimal amount,
+                                           LocalDate date) {
+
+        long started = System.nanoTime();
+        String from = inputFrom.toUpperCase().trim();
+        String to = inputTo.toUpperCase().trim();
+
+        ExchangeRate fromRate = eurRate(from, date);
+        ExchangeRate toRate = eurRate(to, date);
+
+        if (fromRate.getRate().signum() == 0 || toRate.getRate().signum() == 0) {
+            throw new IllegalStateException("Exchange rate cannot be zero");
+        }
+
+        // amount / from-rate gives EUR, times to-rate gives the target; rounded once at the end.
+        BigDecimal converted = FixedPointMath.divide(amount.multiply(toRate.getRate()), fromRate.getRate(), 6);
+
+        LocalDate rateDate = fromRate.getRateDate().isBefore(toRate.getRateDate())
+                ? fromRate.getRateDate()
+                : toRate.getRateDate();
+
+        CrossConversionResponse response = new CrossConversionResponse(
+                from,
+                to,
+                amount,
+                crossRate(fromRate.getRate(), toRate.getRate()),
+                converted,
+                rateDate
+        );
+        metrics.recordCrossConversion(started);
+        return response;
+    }
+
+    public CrossRateMatrixResponse getCrossRates(LocalDate date) {
+        long generation = rateCache.getMatrix().getGeneration();
+
+        CachedMatrix cached = cachedMatrix(date);
+        if (cached != null && cached.generation() == generation) {
+            return cached.matrix();
+        }
+
+        // built outside the lock; concurrent builds of the same date are harmless
+        CrossRateMatrixResponse matrix = buildMatrix(date);
+        matricesLock.lock();
+        try {
+            matrices.put(date, new CachedMatrix(generation, matrix));
+        } finally {
+            matricesLock.unlock();
+        }
+        return matrix;
+    }
+
+    private CachedMatrix cachedMatrix(LocalDate date) {
+        matricesLock.lock();
+        try {
+            return matrices.get(date);
+        } finally {
+            matricesLock.unlock();
+        }
+    }
+
+    private CrossRateMatrixResponse buildMatrix(LocalDate date) {
+        Map<String, BigDecimal> eurRates = new TreeMap<>(rateCache.getMatrix().ratesOn(date));
+        if (eurRates.isEmpty()) {
+            exchangeRateRepository.findByRateDate(date, Pageable.unpaged())
+                    .forEach(rate -> eurRates.put(rate.getCurrency(), rate.getRate()));
+        }
+        eurRates.values().removeIf(rate -> rate.signum() == 0);
+
+        if (eurRates.isEmpty()) {
+            throw new RateNotFoundException("No exchange rate data available for date: " + date);
+        }
+        eurRates.put(BASE_CURRENCY, BigDecimal.ONE);
+
+        Map<String, Map<String, BigDecimal>> rates = new LinkedHashMap<>();
+        eurRates.forEach((from, fromRate) -> {
+            Map<String, BigDecimal> row = new LinkedHashMap<>();
+            eurRates.forEach((to, toRate) -> row.put(to, crossRate(fromRate, toRate)));
+            rates.put(from, Collections.unmodifiableMap(row));
+        });
+
+        return new CrossRateMatrixResponse(date, Collections.unmodifiableMap(rates));
+    }
+
+    private ExchangeRate eurRate(String currency, LocalDate date) {
+        if (BASE_CURRENCY.equals(currency)) {
+            return new ExchangeRate(BASE_CURRENCY, BigDecimal.ONE, date);
+        }
+        return exchangeRateService.getRate(currency, date);
+    }
+
+    private static BigDecimal crossRate(BigDecimal fromRate, BigDecimal toRate) {
+        return FixedPointMath.divide(toRate, fromRate, CROSS_RATE_SCALE);
+    }
+
+    private record CachedMatrix(long generation, CrossRateMatrixResponse matrix) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.mukesh.fxservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.dto.ExchangeRateResponse;
+import com.mukesh.fxservice.dto.RateExportFormat;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the complete rate history to an output stream row by row, so heap use does not
+ * grow with the size of the table.
+ */
+@Service
+public class ExchangeRateExportService {
+
+    private static final String CSV_HEADER = "currency,rate,rateDate\n";
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter cborWriter;
+
+    public ExchangeRateExportService(ExchangeRateRepository exchangeRateRepository,
+                                     EntityManager entityManager,
+                                     ObjectMapper objectMapper,
+                                     MappingJackson2CborHttpMessageConverter cborConverter) {
+        this.exchangeRateRepository = exchangeRateRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // the generator is flushed once at the end, not after every row
+        this.cborWriter = cborConverter.getObjectMapper().writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(RateExportFormat format, OutputStream outputStream) throws IOException {
+
+        if (format == RateExportFormat.CBOR) {
+            exportCbor(outputStream);
+            return;
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == RateExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        forEachRate(rate -> writeRow(format, rate, writer));
+
+        writer.flush();
+    }
+
+    private void exportCbor(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = cborWriter.createGenerator(outputStream);
+        forEachRate(rate -> cborWriter.writeValue(generator,
+                new ExchangeRateResponse(rate.getCurrency(), rate.getRate(), rate.getRateDate())));
+        generator.flush();
+    }
+
+    private void forEachRate(RowWriter rowWriter) throws IOException {
+        try (Stream<ExchangeRate> rates = exchangeRateRepository.streamAllByOrderByCurrencyAscRateDateAsc()) {
+            Iterator<ExchangeRate> iterator = rates.iterator();
+            while (iterator.hasNext()) {
+                ExchangeRate rate = iterator.next();
+                rowWriter.write(rate);
+                // Detach each row so the persistence context does not accumulate the whole table.
+                entityManager.detach(rate);
+            }
+        }
+    }
+
+    private void writeRow(RateExportFormat format, ExchangeRate rate, Writer writer) throws IOException {
+        if (format == RateExportFormat.CSV) {
+            writer.write(rate.getCurrency());
+            writer.write(',');
+            writer.write(rate.getRate().toPlainString());
+            writer.write(',');
+            writer.write(rate.getRateDate().toString());
+        } else {
+            writer.write(objectMapper.writeValueAsString(
+                    new ExchangeRateResponse(rate.getCurrency(), rate.getRate(), rate.getRateDate())));
+        }
+        writer.write('\n');
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ExchangeRate rate) throws IOException;
+    }
+}
@@ -1,29 +1,98 @@
 package com.mukesh.fxservice.service;
 
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.cache.RateMatrix;
 import com.mukesh.fxservice.config.CurrencyProperties;
+import com.mukesh.fxservice.config.RateLookupProperties;
 import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.dto.BatchConversionResult;
+import com.mukesh.fxservice.dto.ConversionRequest;
 import com.mukesh.fxservice.dto.ConversionResponse;
 import com.mukesh.fxservice.dto.ExchangeRateResponse;
+import com.mukesh.fxservice.dto.RatePageResponse;
 import com.mukesh.fxservice.exception.RateNotFoundException;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
 import com.mukesh.fxservice.repository.ExchangeRateRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
 
 
 @Service
 public class ExchangeRateService {
 
+    private static final Pattern CURRENCY_PATTERN = Pattern.compile("^[A-Z]{3}$");
+
     private final ExchangeRateRepository exchangeRateRepository;
     private final CurrencyProperties currencyProperties;
+    private final ExchangeRateCache rateCache;
+    private final RateLookupProperties lookupProperties;
+    private final ExchangeRateMetrics metrics;
+
+    // Concurrent misses for the same key (e.g. a new date right after a load) share one query.
+    private final SingleFlight<RateKey, Optional<ExchangeRate>> rateLookups;
+    private final SingleFlight<RateKey, Optional<ExchangeRate>> rateOnOrBeforeLookups;
+    private final SingleFlight<DatePageKey, Page<ExchangeRateResponse>> datePageLookups;
 
-    public ExchangeRateService(ExchangeRateRepository exchangeRateRepository, CurrencyProperties currencyProperties) {
+    public ExchangeRateService(ExchangeRateRepository exchangeRateRepository,
+                               CurrencyProperties currencyProperties,
+                               ExchangeRateCache rateCache,
+                               RateLookupProperties lookupProperties,
+                               ExchangeRateMetrics metrics) {
         this.exchangeRateRepository = exchangeRateRepository;
         this.currencyProperties = currencyProperties;
+        this.rateCache = rateCache;
+        this.lookupProperties = lookupProperties;
+        this.metrics = metrics;
+        this.rateLookups = new SingleFlight<>("rate", metrics);
+        this.rateOnOrBeforeLookups = new SingleFlight<>("rate_on_or_before", metrics);
+        this.datePageLookups = new SingleFlight<>("rates_by_date", metrics);
+    }
+
+    /**
+     * Generation of the rate snapshot currently served; changes whenever a load adds rates.
+     * Zero until the first snapshot has been built.
+     */
+    public long getDataGeneration() {
+        return rateCache.getMatrix().getGeneration();
+    }
+
+    public Instant getDataLoadedAt() {
+        return rateCache.getMatrix().getLoadedAt();
+    }
+
+    /**
+     * Whether every supported currency has a rate on exactly {@code date} in the current snapshot,
+     * i.e. no lookup for it falls back to an earlier date or misses a currency that failed to load.
+     */
+    public boolean hasCompleteRates(LocalDate date) {
+        List<String> currencies = currencyProperties.getSupportedCurrencies();
+        if (currencies.isEmpty()) {
+            return false;
+        }
+        RateMatrix matrix = rateCache.getMatrix();
+        for (String currency : currencies) {
+            if (matrix.findRate(currency, date) == null) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public List<String> getAvailableCurrencies() {
@@ -42,51 +111,269 @@ public class ExchangeRateService {
     }
 
 
+    /**
+     * Keyset pagination in {@code (currency, rate_date)} order. Each page starts after the
+     * position encoded in {@code cursor}, so deep pages cost the same as the first one.
+     */
+    public RatePageResponse getRatesPage(LocalDate date, String cursor, int size) {
+
+        Pageable pageable = PageRequest.ofSize(size);
+        RateCursor after = cursor == null || cursor.isBlank() ? null : RateCursor.decode(cursor);
+
+        Slice<ExchangeRate> slice;
+        if (date == null) {
+            slice = after == null
+                    ? exchangeRateRepository.findAllByOrderByCurrencyAscRateDateAsc(pageable)
+                    : exchangeRateRepository.findPageAfter(after.currency(), after.rateDate(), pageable);
+        } else {
+            slice = after == null
+                    ? exchangeRateRepository.findByRateDateOrderByCurrencyAsc(date, pageable)
+                    : exchangeRateRepository.findByRateDateAndCurrencyGreaterThanOrderByCurrencyAsc(
+                            date, after.currency(), pageable);
+        }
+
+        if (slice.isEmpty() && after == null) {
+            throw new RateNotFoundException(date == null
+                    ? "No exchange rate data available"
+                    : "No exchange rate data available for date: " + date);
+        }
+
+        List<ExchangeRate> content = slice.getContent();
+        String nextCursor = slice.hasNext()
+                ? RateCursor.after(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new RatePageResponse(
+                content.stream().map(this::toResponse).toList(),
+                size,
+                nextCursor
+        );
+    }
+
     public ExchangeRate getRate(String inputCurrency, LocalDate date) {
         String currency = inputCurrency.toUpperCase().trim();
-        return exchangeRateRepository
-                .findByCurrencyAndRateDate(currency, date)
-                //FIXME : on weekend Fallback to previous buisness day.
+
+        BigDecimal cached = rateCache.findRate(currency, date);
+        metrics.recordCacheLookup(cached != null);
+        if (cached != null) {
+            return new ExchangeRate(currency, cached, date);
+        }
+
+        if (lookupProperties.isFallbackToPreviousDate()) {
+            return findRateOnOrBefore(currency, date)
+                    .orElseThrow(() -> new RateNotFoundException(
+                            "No exchange rate data available on or before date: " + date));
+        }
+
+        return rateLookups
+                .execute(new RateKey(currency, date),
+                        () -> exchangeRateRepository.findByCurrencyAndRateDate(currency, date))
                 .orElseThrow(() ->
                         new RateNotFoundException("No exchange rate data available for date: " + date));
     }
 
+    /**
+     * Resolves weekends and holidays to the latest rate within the configured look-back window.
+     * The returned rate carries its own (effective) rate date.
+     */
+    private Optional<ExchangeRate> findRateOnOrBefore(String currency, LocalDate date) {
+        LocalDate earliest = date.minusDays(lookupProperties.getMaxLookbackDays());
+
+        ExchangeRate cached = rateCache.findRateOnOrBefore(currency, date, earliest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return rateOnOrBeforeLookups
+                .execute(new RateKey(currency, date),
+                        () -> exchangeRateRepository
+                                .findTopByCurrencyAndRateDateLessThanEqualOrderByRateDateDesc(currency, date))
+                .filter(rate -> !rate.getRateDate().isBefore(earliest));
+    }
+
     public ConversionResponse convert(String inputCurrency,
                                       BigDecimal amount,
                                       LocalDate date) {
 
+        long started = System.nanoTime();
         String currency = inputCurrency.toUpperCase().trim();
 
         ExchangeRate rate = getRate(currency, date);
 
-        if (rate.getRate().compareTo(BigDecimal.ZERO) == 0) {
+        ConversionResponse response = toConversion(currency, amount, rate.getRate(), rate.getRateDate());
+        metrics.recordConversion(started);
+        return response;
+    }
+
+    /**
+     * Converts every item with a single grouped rate lookup. Results are returned in input
+     * order; items that cannot be converted carry an error message instead of failing the batch.
+     */
+    public List<BatchConversionResult> convertBatch(List<ConversionRequest> requests) {
+
+        long started = System.nanoTime();
+        Set<RateKey> keys = new LinkedHashSet<>();
+        for (ConversionRequest request : requests) {
+            if (validate(request) == null) {
+                keys.add(RateKey.of(request));
+            }
+        }
+
+        Map<RateKey, ExchangeRate> rates = resolveRates(keys);
+
+        List<BatchConversionResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(convertItem(i, requests.get(i), rates));
+        }
+        metrics.recordBatchConversion(started, requests.size());
+        return results;
+    }
+
+    private BatchConversionResult convertItem(int index,
+                                              ConversionRequest request,
+                                              Map<RateKey, ExchangeRate> rates) {
+        String error = validate(request);
+        if (error != null) {
+            return new BatchConversionResult(index, null, error);
+        }
+
+        RateKey key = RateKey.of(request);
+        ExchangeRate rate = rates.get(key);
+        if (rate == null) {
+            return new BatchConversionResult(index, null,
+                    "No exchange rate data available for date: " + key.date());
+        }
+
+        try {
+            return new BatchConversionResult(index,
+                    toConversion(key.currency(), request.amount(), rate.getRate(), rate.getRateDate()), null);
+        } catch (IllegalStateException ex) {
+            return new BatchConversionResult(index, null, ex.getMessage());
+        }
+    }
+
+    private String validate(ConversionRequest request) {
+        if (request == null) {
+            return "Conversion must not be null";
+        }
+        if (request.currency() == null || request.currency().isBlank()) {
+            return "Currency must not be blank";
+        }
+        if (!CURRENCY_PATTERN.matcher(request.currency().trim()).matches()) {
+            return "Currency must be 3 uppercase letters";
+        }
+        if (request.amount() == null || request.amount().signum() <= 0) {
+            return "Amount must be positive";
+        }
+        if (request.date() == null) {
+            return "Date must not be null";
+        }
+        return null;
+    }
+
+    private Map<RateKey, ExchangeRate> resolveRates(Set<RateKey> keys) {
+        Map<RateKey, ExchangeRate> rates = new HashMap<>();
+        Set<String> missingCurrencies = new HashSet<>();
+        Set<LocalDate> missingDates = new HashSet<>();
+
+        for (RateKey key : keys) {
+            BigDecimal cached = rateCache.findRate(key.currency(), key.date());
+            metrics.recordCacheLookup(cached != null);
+            if (cached != null) {
+                rates.put(key, new ExchangeRate(key.currency(), cached, key.date()));
+            } else {
+                missingCurrencies.add(key.currency());
+                missingDates.add(key.date());
+            }
+        }
+
+        if (!missingCurrencies.isEmpty()) {
+            exchangeRateRepository.findByCurrencyInAndRateDateIn(missingCurrencies, missingDates)
+                    .forEach(rate -> {
+                        RateKey key = new RateKey(rate.getCurrency(), rate.getRateDate());
+                        if (keys.contains(key)) {
+                            rates.put(key, rate);
+                        }
+                    });
+        }
+
+        if (lookupProperties.isFallbackToPreviousDate()) {
+            resolveRatesOnOrBefore(keys, rates);
+        }
+        return rates;
+    }
+
+    /**
+     * Batch counterpart of {@link #findRateOnOrBefore}: items the cache cannot floor are resolved
+     * with one query per currency over the window from its earliest item's look-back to its latest
+     * item, instead of one query per item.
+     */
+    private void resolveRatesOnOrBefore(Set<RateKey> keys, Map<RateKey, ExchangeRate> rates) {
+        int lookbackDays = lookupProperties.getMaxLookbackDays();
+        Map<String, List<LocalDate>> missing = new HashMap<>();
+
+        for (RateKey key : keys) {
+            if (rates.containsKey(key)) {
+                continue;
+            }
+            ExchangeRate cached = rateCache.findRateOnOrBefore(
+                    key.currency(), key.date(), key.date().minusDays(lookbackDays));
+            if (cached != null) {
+                rates.put(key, cached);
+            } else {
+                missing.computeIfAbsent(key.currency(), currency -> new ArrayList<>()).add(key.date());
+            }
+        }
+
+        missing.forEach((currency, dates) -> {
+            TreeMap<LocalDate, ExchangeRate> window = new TreeMap<>();
+            exchangeRateRepository.findByCurrencyAndRateDateBetweenOrderByRateDateAsc(currency,
+                            Collections.min(dates).minusDays(lookbackDays), Collections.max(dates))
+                    .forEach(rate -> window.put(rate.getRateDate(), rate));
+
+            for (LocalDate date : dates) {
+                Map.Entry<LocalDate, ExchangeRate> floor = window.floorEntry(date);
+                if (floor != null && !floor.getKey().isBefore(date.minusDays(lookbackDays))) {
+                    rates.put(new RateKey(currency, date), floor.getValue());
+                }
+            }
+        });
+    }
+
+    ConversionResponse toConversion(String currency,
+                                    BigDecimal amount,
+                                    BigDecimal rate,
+                                    LocalDate rateDate) {
+
+        if (rate.compareTo(BigDecimal.ZERO) == 0) {
             throw new IllegalStateException("Exchange rate cannot be zero");
         }
 
-        BigDecimal converted =
-                amount.divide(rate.getRate(), 6, RoundingMode.HALF_UP);
+        BigDecimal converted = FixedPointMath.divide(amount, rate, 6);
 
         return new ConversionResponse(
                 currency,
                 amount,
-                rate.getRate(),
+                rate,
                 converted,
-                rate.getRateDate()
+                rateDate
         );
     }
+
     public Page<ExchangeRateResponse> getRatesByDate(LocalDate date, Pageable pageable) {
 
-        Page<ExchangeRate> page = exchangeRateRepository.findByRateDate(date, pageable);
+        Page<ExchangeRateResponse> page = datePageLookups.execute(new DatePageKey(date, pageable),
+                () -> exchangeRateRepository.findByRateDate(date, pageable).map(this::toResponse));
 
         if (page.isEmpty()) {
             throw new RateNotFoundException(
                     "No exchange rate data available for date: " + date);
         }
 
-        return page.map(this::toResponse);
+        return page;
     }
 
-    private ExchangeRateResponse toResponse(ExchangeRate rate) {
+    ExchangeRateResponse toResponse(ExchangeRate rate) {
         return new ExchangeRateResponse(
                 rate.getCurrency(),
                 rate.getRate(),
@@ -94,5 +381,12 @@ public class ExchangeRateService {
         );
     }
 
+    private record DatePageKey(LocalDate date, Pageable pageable) {
+    }
 
+    private record RateKey(String currency, LocalDate date) {
+        static RateKey of(ConversionRequest request) {
+            return new RateKey(request.currency().trim(), request.date());
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package com.mukesh.fxservice.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * HALF_UP division of decimals held as scaled longs. Operands whose unscaled values fit in 64 bits
+ * are divided with {@code long} arithmetic and rounded exactly; everything else falls back to
+ * {@link BigDecimal#divide(BigDecimal, int, RoundingMode)}. Results are identical to the
+ * {@code BigDecimal} division in value and scale.
+ */
+public final class FixedPointMath {
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private FixedPointMath() {
+    }
+
+    /**
+     * @return {@code dividend.divide(divisor, scale, RoundingMode.HALF_UP)}
+     * @throws ArithmeticException if {@code divisor} is zero
+     */
+    public static BigDecimal divide(BigDecimal dividend, BigDecimal divisor, int scale) {
+        if (dividend.precision() <= 18 && divisor.precision() <= 18 && divisor.signum() != 0) {
+            // dividend / divisor = (u1 / u2) * 10^(s2 - s1), so the result unscaled at `scale`
+            // is u1 * 10^(scale + s2 - s1) / u2; the scales are aligned by divideScaled from the
+            // power-of-ten table rather than by rescaling either operand
+            long exponent = (long) scale + divisor.scale() - dividend.scale();
+            long quotient = divideScaled(unscaled(dividend), unscaled(divisor), exponent);
+            if (quotient != Long.MIN_VALUE) {
+                return BigDecimal.valueOf(quotient, scale);
+            }
+        }
+        return dividend.divide(divisor, scale, RoundingMode.HALF_UP);
+    }
+
+    // Precision of at most 18 digits keeps the unscaled value within a long.
+    private static long unscaled(BigDecimal value) {
+        return value.unscaledValue().longValueExact();
+    }
+
+    /**
+     * @return {@code round(numerator * 10^exponent / denominator)} rounded HALF_UP, or
+     * {@code Long.MIN_VALUE} if an intermediate does not fit in a long
+     */
+    private static long divideScaled(long numerator, long denominator, long exponent) {
+        if (exponent > 18 || exponent < -18) {
+            return Long.MIN_VALUE;
+        }
+        long n = numerator;
+        long d = denominator;
+        try {
+            if (exponent >= 0) {
+                n = Math.multiplyExact(n, POWERS_OF_TEN[(int) exponent]);
+            } else {
+                d = Math.multiplyExact(d, POWERS_OF_TEN[(int) -exponent]);
+            }
+        } catch (ArithmeticException ex) {
+            return Long.MIN_VALUE;
+        }
+
+        long quotient = n / d;
+        long remainder = Math.abs(n % d);
+        long absDivisor = Math.abs(d);
+        // remainder >= divisor / 2, written so that doubling the remainder cannot overflow
+        if (remainder >= absDivisor - remainder) {
+            quotient += (n < 0) == (d < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+}
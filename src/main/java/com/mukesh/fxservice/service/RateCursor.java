@@ -0,0 +1,41 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page in {@code (currency, rate_date)} order, encoded as an
+ * opaque URL-safe token.
+ */
+record RateCursor(String currency, LocalDate rateDate) {
+
+    private static final char SEPARATOR = '|';
+
+    static RateCursor after(ExchangeRate rate) {
+        return new RateCursor(rate.getCurrency(), rate.getRateDate());
+    }
+
+    String encode() {
+        String raw = currency + SEPARATOR + rateDate;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static RateCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor: " + token);
+            }
+            return new RateCursor(raw.substring(0, separator), LocalDate.parse(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+}
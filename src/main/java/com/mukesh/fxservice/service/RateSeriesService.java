@@ -0,0 +1,191 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.cache.CurrencySeries;
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.cache.RateMatrix;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.dto.RateSeriesPoint;
+import com.mukesh.fxservice.dto.RateSeriesResponse;
+import com.mukesh.fxservice.dto.RateStats;
+import com.mukesh.fxservice.dto.RateStatsResponse;
+import com.mukesh.fxservice.exception.InvalidRangeException;
+import com.mukesh.fxservice.exception.RateNotFoundException;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Date-range reads and aggregates for a single currency, served from the in-memory {@link CurrencySeries}
+ * and falling back to the database only when the cache has no series for the currency.
+ */
+@Service
+public class RateSeriesService {
+
+    private static final Pattern WINDOW_PATTERN = Pattern.compile("^(\\d{1,5})d$");
+    static final int MAX_WINDOW_DAYS = 3660;
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final ExchangeRateCache rateCache;
+
+    public RateSeriesService(ExchangeRateRepository exchangeRateRepository,
+                             ExchangeRateCache rateCache) {
+        this.exchangeRateRepository = exchangeRateRepository;
+        this.rateCache = rateCache;
+    }
+
+    public RateSeriesResponse getSeries(String inputCurrency, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidRangeException("'from' must not be after 'to'");
+        }
+
+        String currency = inputCurrency.toUpperCase().trim();
+
+        List<RateSeriesPoint> points;
+        CurrencySeries series = rateCache.getMatrix().getSeries(currency);
+        if (series != null) {
+            List<RateSeriesPoint> slice = new ArrayList<>();
+            series.forEachBetween(from, to, (epochDay, scaledRate) -> slice.add(new RateSeriesPoint(
+                    LocalDate.ofEpochDay(epochDay), BigDecimal.valueOf(scaledRate, CurrencySeries.SCALE))));
+            points = slice;
+        } else {
+            points = exchangeRateRepository
+                    .findByCurrencyAndRateDateBetweenOrderByRateDateAsc(currency, from, to)
+                    .stream()
+                    .map(rate -> new RateSeriesPoint(rate.getRateDate(), rate.getRate()))
+                    .toList();
+        }
+
+        if (points.isEmpty()) {
+            throw new RateNotFoundException(
+                    "No exchange rate data available for " + currency + " between " + from + " and " + to);
+        }
+
+        return new RateSeriesResponse(currency, from, to, points);
+    }
+
+    /**
+     * Min/max/average/standard deviation over {@code [from, to]} and, if {@code window} is given
+     * (e.g. {@code 30d}), over the trailing window ending on every observation day in the range.
+     * Count, average and deviation come from the series prefix sums in O(1) per window; min and
+     * max are tracked with monotonic deques in a single pass.
+     */
+    public RateStatsResponse getStats(String inputCurrency, LocalDate from, LocalDate to, String window) {
+        if (from.isAfter(to)) {
+            throw new InvalidRangeException("'from' must not be after 'to'");
+        }
+
+        String currency = inputCurrency.toUpperCase().trim();
+        Integer windowDays = window == null || window.isBlank() ? null : parseWindow(window);
+        LocalDate earliest = windowDays == null ? from : from.minusDays(windowDays - 1L);
+
+        CurrencySeries series = seriesFor(currency, earliest, to);
+        if (series == null || series.count(from, to) == 0) {
+            throw new RateNotFoundException(
+                    "No exchange rate data available for " + currency + " between " + from + " and " + to);
+        }
+
+        long[] bounds = {Long.MAX_VALUE, Long.MIN_VALUE};
+        series.forEachBetween(from, to, (epochDay, scaledRate) -> {
+            bounds[0] = Math.min(bounds[0], scaledRate);
+            bounds[1] = Math.max(bounds[1], scaledRate);
+        });
+        RateStats overall = toStats(series, from.toEpochDay(), to.toEpochDay(), bounds[0], bounds[1]);
+
+        List<RateStats> windows = windowDays == null
+                ? List.of()
+                : rollingWindows(series, earliest, from, to, windowDays);
+
+        return new RateStatsResponse(currency, overall, windowDays, windows);
+    }
+
+    private List<RateStats> rollingWindows(CurrencySeries series,
+                                           LocalDate earliest,
+                                           LocalDate from,
+                                           LocalDate to,
+                                           int windowDays) {
+
+        int n = series.count(earliest, to);
+        long[] days = new long[n];
+        long[] values = new long[n];
+        int[] filled = {0};
+        series.forEachBetween(earliest, to, (epochDay, scaledRate) -> {
+            days[filled[0]] = epochDay;
+            values[filled[0]] = scaledRate;
+            filled[0]++;
+        });
+
+        // Each index enters each deque once, so plain arrays with head/tail pointers suffice.
+        int[] minQueue = new int[n];
+        int[] maxQueue = new int[n];
+        int minHead = 0, minTail = 0, maxHead = 0, maxTail = 0;
+
+        long fromDay = from.toEpochDay();
+        List<RateStats> windows = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            while (minTail > minHead && values[minQueue[minTail - 1]] >= values[i]) {
+                minTail--;
+            }
+            minQueue[minTail++] = i;
+            while (maxTail > maxHead && values[maxQueue[maxTail - 1]] <= values[i]) {
+                maxTail--;
+            }
+            maxQueue[maxTail++] = i;
+
+            long windowStart = days[i] - windowDays + 1;
+            while (days[minQueue[minHead]] < windowStart) {
+                minHead++;
+            }
+            while (days[maxQueue[maxHead]] < windowStart) {
+                maxHead++;
+            }
+
+            if (days[i] >= fromDay) {
+                windows.add(toStats(series, windowStart, days[i],
+                        values[minQueue[minHead]], values[maxQueue[maxHead]]));
+            }
+        }
+        return windows;
+    }
+
+    private RateStats toStats(CurrencySeries series, long fromDay, long toDay, long min, long max) {
+        return new RateStats(
+                LocalDate.ofEpochDay(fromDay),
+                LocalDate.ofEpochDay(toDay),
+                series.count(fromDay, toDay),
+                BigDecimal.valueOf(min, CurrencySeries.SCALE),
+                BigDecimal.valueOf(max, CurrencySeries.SCALE),
+                series.mean(fromDay, toDay, CurrencySeries.SCALE),
+                BigDecimal.valueOf(series.standardDeviation(fromDay, toDay))
+                        .setScale(CurrencySeries.SCALE, RoundingMode.HALF_UP)
+        );
+    }
+
+    private CurrencySeries seriesFor(String currency, LocalDate from, LocalDate to) {
+        CurrencySeries cached = rateCache.getMatrix().getSeries(currency);
+        if (cached != null) {
+            return cached;
+        }
+        List<ExchangeRate> rates =
+                exchangeRateRepository.findByCurrencyAndRateDateBetweenOrderByRateDateAsc(currency, from, to);
+        return RateMatrix.build(rates, 0).getSeries(currency);
+    }
+
+    private static int parseWindow(String window) {
+        Matcher matcher = WINDOW_PATTERN.matcher(window.trim());
+        if (!matcher.matches()) {
+            throw new InvalidRangeException("Window must be a number of days, e.g. 30d");
+        }
+        int days = Integer.parseInt(matcher.group(1));
+        if (days < 1 || days > MAX_WINDOW_DAYS) {
+            throw new InvalidRangeException("Window must be between 1d and " + MAX_WINDOW_DAYS + "d");
+        }
+        return days;
+    }
+}
@@ -0,0 +1,93 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.config.RateLookupProperties;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.dto.ConversionResponse;
+import com.mukesh.fxservice.dto.ExchangeRateResponse;
+import com.mukesh.fxservice.exception.RateNotFoundException;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
+import com.mukesh.fxservice.repository.ReactiveExchangeRateRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Non-blocking variant of the {@link ExchangeRateService} read path. Conversions are answered from
+ * the in-memory rate snapshot when possible and fall back to R2DBC queries otherwise; responses and
+ * rounding are shared with {@link ExchangeRateService}.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.fx.reactive", name = "enabled", havingValue = "true")
+public class ReactiveExchangeRateService {
+
+    private final ReactiveExchangeRateRepository repository;
+    private final ExchangeRateService exchangeRateService;
+    private final ExchangeRateCache rateCache;
+    private final RateLookupProperties lookupProperties;
+    private final ExchangeRateMetrics metrics;
+
+    public ReactiveExchangeRateService(ReactiveExchangeRateRepository repository,
+                                       ExchangeRateService exchangeRateService,
+                                       ExchangeRateCache rateCache,
+                                       RateLookupProperties lookupProperties,
+                                       ExchangeRateMetrics metrics) {
+        this.repository = repository;
+        this.exchangeRateService = exchangeRateService;
+        this.rateCache = rateCache;
+        this.lookupProperties = lookupProperties;
+        this.metrics = metrics;
+    }
+
+    public Flux<ExchangeRateResponse> getRates(LocalDate date, int page, int size) {
+        long offset = (long) page * size;
+        Flux<ExchangeRate> rates = date == null
+                ? repository.findAll(offset, size)
+                : repository.findByRateDate(date, offset, size);
+
+        return rates.map(exchangeRateService::toResponse)
+                .switchIfEmpty(Flux.error(() -> new RateNotFoundException(date == null
+                        ? "No exchange rate data available"
+                        : "No exchange rate data available for date: " + date)));
+    }
+
+    public Flux<ExchangeRateResponse> streamRates() {
+        return repository.streamAll().map(exchangeRateService::toResponse);
+    }
+
+    public Mono<ConversionResponse> convert(String inputCurrency, BigDecimal amount, LocalDate date) {
+        long started = System.nanoTime();
+        String currency = inputCurrency.toUpperCase().trim();
+
+        return getRate(currency, date)
+                .map(rate -> exchangeRateService.toConversion(currency, amount, rate.getRate(), rate.getRateDate()))
+                .doOnSuccess(response -> metrics.recordConversion(started));
+    }
+
+    private Mono<ExchangeRate> getRate(String currency, LocalDate date) {
+        BigDecimal cached = rateCache.findRate(currency, date);
+        metrics.recordCacheLookup(cached != null);
+        if (cached != null) {
+            return Mono.just(new ExchangeRate(currency, cached, date));
+        }
+
+        if (lookupProperties.isFallbackToPreviousDate()) {
+            LocalDate earliest = date.minusDays(lookupProperties.getMaxLookbackDays());
+            ExchangeRate cachedOnOrBefore = rateCache.findRateOnOrBefore(currency, date, earliest);
+            Mono<ExchangeRate> rate = cachedOnOrBefore != null
+                    ? Mono.just(cachedOnOrBefore)
+                    : repository.findLatestOnOrBefore(currency, date)
+                            .filter(found -> !found.getRateDate().isBefore(earliest));
+            return rate.switchIfEmpty(Mono.error(() -> new RateNotFoundException(
+                    "No exchange rate data available on or before date: " + date)));
+        }
+
+        return repository.findByCurrencyAndRateDate(currency, date)
+                .switchIfEmpty(Mono.error(() ->
+                        new RateNotFoundException("No exchange rate data available for date: " + date)));
+    }
+}
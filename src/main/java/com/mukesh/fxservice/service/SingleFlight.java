@@ -0,0 +1,65 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Request coalescing for database lookups: while a lookup for a key is running, further callers
+ * for the same key wait for it and receive its result (or exception) instead of issuing their own
+ * query. Nothing is cached; the key is forgotten as soon as the lookup finishes.
+ */
+final class SingleFlight<K, V> {
+
+    private final String name;
+    private final ExchangeRateMetrics metrics;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    SingleFlight(String name, ExchangeRateMetrics metrics) {
+        this.name = name;
+        this.metrics = metrics;
+    }
+
+    V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            metrics.recordDatabaseLookup(name, true);
+            return await(running);
+        }
+
+        metrics.recordDatabaseLookup(name, false);
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.mukesh.fxservice.service.api;
+
+import java.time.Duration;
+
+public record CurrencyRefreshResult(
+        String currency,
+        Status status,
+        int insertedRows,
+        Duration duration,
+        String error
+) {
+
+    public enum Status {
+        SUCCESS,
+        FAILED,
+        TIMED_OUT
+    }
+
+    public static CurrencyRefreshResult success(String currency, int insertedRows, Duration duration) {
+        return new CurrencyRefreshResult(currency, Status.SUCCESS, insertedRows, duration, null);
+    }
+
+    public static CurrencyRefreshResult failed(String currency, Duration duration, String error) {
+        return failed(currency, 0, duration, error);
+    }
+
+    // insertedRows counts chunks committed before the failure
+    public static CurrencyRefreshResult failed(String currency, int insertedRows, Duration duration, String error) {
+        return new CurrencyRefreshResult(currency, Status.FAILED, insertedRows, duration, error);
+    }
+
+    public static CurrencyRefreshResult timedOut(String currency, Duration duration) {
+        return new CurrencyRefreshResult(currency, Status.TIMED_OUT, 0, duration, "Refresh deadline exceeded");
+    }
+}
@@ -0,0 +1,12 @@
+package com.mukesh.fxservice.service.api;
+
+public interface ExchangeRateLoader {
+
+    RefreshReport fetchAndLoadAllCurrencyRates();
+
+    RefreshReport fetchAndLoadAllCurrencyRates(RefreshMode mode);
+
+    int fetchAndLoadRatesForCurrency(String currency);
+
+    int fetchAndLoadRatesForCurrency(String currency, RefreshMode mode);
+}
@@ -0,0 +1,13 @@
+package com.mukesh.fxservice.service.api;
+
+import java.util.Set;
+
+/**
+ * Published by the loader after new rates have been committed to the database. Nodes that learn
+ * about rates stored by another node publish it with no currencies and zero rows.
+ */
+public record ExchangeRatesLoadedEvent(
+        Set<String> currencies,
+        int insertedRows
+) {
+}
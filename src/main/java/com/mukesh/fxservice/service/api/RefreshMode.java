@@ -0,0 +1,14 @@
+package com.mukesh.fxservice.service.api;
+
+public enum RefreshMode {
+
+    /**
+     * Fetch only observations from the latest stored rate date onwards.
+     */
+    INCREMENTAL,
+
+    /**
+     * Fetch the complete history of every series.
+     */
+    FULL
+}
@@ -0,0 +1,31 @@
+package com.mukesh.fxservice.service.api;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Per-currency outcome of a full refresh run.
+ */
+public record RefreshReport(
+        List<CurrencyRefreshResult> results,
+        Duration elapsed
+) {
+
+    public long count(CurrencyRefreshResult.Status status) {
+        return results.stream().filter(result -> result.status() == status).count();
+    }
+
+    public int insertedRows() {
+        return results.stream().mapToInt(CurrencyRefreshResult::insertedRows).sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d succeeded, %d failed, %d timed out, %d rows inserted in %d ms",
+                count(CurrencyRefreshResult.Status.SUCCESS),
+                count(CurrencyRefreshResult.Status.FAILED),
+                count(CurrencyRefreshResult.Status.TIMED_OUT),
+                insertedRows(),
+                elapsed.toMillis());
+    }
+}
@@ -0,0 +1,83 @@
+package com.mukesh.fxservice.service.impl;
+
+import com.mukesh.fxservice.exception.ExchangeRateParseException;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Parses Bundesbank CSV series record by record and hands them on in chunks, so only one
+ * chunk of parsed rates is held in memory at a time.
+ */
+public final class BundesbankCsvParser {
+
+    private BundesbankCsvParser() {
+    }
+
+    /**
+     * @param chunkHandler receives each chunk of at most {@code chunkSize} rates and returns the number of rows it stored
+     * @return the sum of all values returned by {@code chunkHandler}
+     */
+    public static int parse(String currency,
+                            Reader reader,
+                            int chunkSize,
+                            ToIntFunction<Map<LocalDate, BigDecimal>> chunkHandler) {
+        int stored = 0;
+        Map<LocalDate, BigDecimal> chunk = new LinkedHashMap<>();
+
+        try (CSVParser parser = CSVFormat.DEFAULT.parse(reader)) {
+            Iterator<CSVRecord> records = parser.iterator();
+            while (hasNext(currency, records)) {
+                parseRecord(records.next(), chunk);
+                if (chunk.size() >= chunkSize) {
+                    stored += chunkHandler.applyAsInt(chunk);
+                    chunk = new LinkedHashMap<>();
+                }
+            }
+        } catch (IOException ex) {
+            throw parseFailure(currency, ex);
+        }
+
+        if (!chunk.isEmpty()) {
+            stored += chunkHandler.applyAsInt(chunk);
+        }
+        return stored;
+    }
+
+    private static boolean hasNext(String currency, Iterator<CSVRecord> records) {
+        try {
+            return records.hasNext();
+        } catch (UncheckedIOException | IllegalStateException ex) {
+            throw parseFailure(currency, ex);
+        }
+    }
+
+    // Bundesbank CSV files carry several metadata lines and "." for days without a value; those are skipped.
+    private static void parseRecord(CSVRecord record, Map<LocalDate, BigDecimal> rates) {
+        if (record.size() < 2) {
+            return;
+        }
+        try {
+            LocalDate date = LocalDate.parse(record.get(0).trim());
+            BigDecimal rate = new BigDecimal(record.get(1).trim());
+            rates.put(date, rate);
+        } catch (DateTimeParseException | NumberFormatException ignored) {
+            // header, metadata or missing observation
+        }
+    }
+
+    private static ExchangeRateParseException parseFailure(String currency, Exception cause) {
+        return new ExchangeRateParseException("Failed to parse exchange rate CSV for " + currency, cause);
+    }
+}
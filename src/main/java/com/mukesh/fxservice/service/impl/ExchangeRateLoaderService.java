@@ -0,0 +1,366 @@
+package com.mukesh.fxservice.service.impl;
+
+import com.mukesh.fxservice.config.CurrencyProperties;
+import com.mukesh.fxservice.config.LoaderProperties;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.external.impl.BundesbankClient;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
+import com.mukesh.fxservice.repository.ExchangeRateBulkWriter;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import com.mukesh.fxservice.service.api.CurrencyRefreshResult;
+import com.mukesh.fxservice.service.api.ExchangeRateLoader;
+import com.mukesh.fxservice.service.api.ExchangeRatesLoadedEvent;
+import com.mukesh.fxservice.service.api.RefreshMode;
+import com.mukesh.fxservice.service.api.RefreshReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class ExchangeRateLoaderService implements ExchangeRateLoader {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ExchangeRateLoaderService.class);
+
+    private final BundesbankClient client;
+    private final ExchangeRateRepository repository;
+    private final ExchangeRateBulkWriter bulkWriter;
+    private final CurrencyProperties currencyProperties;
+    private final LoaderProperties loaderProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExchangeRateMetrics metrics;
+
+    // One lock per currency so concurrent refreshes of the same series do not insert duplicates.
+    private final ConcurrentMap<String, ReentrantLock> currencyLocks = new ConcurrentHashMap<>();
+
+    public ExchangeRateLoaderService(BundesbankClient client,
+                                     ExchangeRateRepository repository,
+                                     ExchangeRateBulkWriter bulkWriter,
+                                     CurrencyProperties currencyProperties,
+                                     LoaderProperties loaderProperties,
+                                     ApplicationEventPublisher eventPublisher,
+                                     ExchangeRateMetrics metrics) {
+        this.client = client;
+        this.repository = repository;
+        this.bulkWriter = bulkWriter;
+        this.currencyProperties = currencyProperties;
+        this.loaderProperties = loaderProperties;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public RefreshReport fetchAndLoadAllCurrencyRates() {
+        return fetchAndLoadAllCurrencyRates(loaderProperties.getMode());
+    }
+
+    @Override
+    public RefreshReport fetchAndLoadAllCurrencyRates(RefreshMode mode) {
+        long started = System.nanoTime();
+        List<String> currencies = currencyProperties.getSupportedCurrencies();
+
+        List<CurrencyRefreshResult> results = loaderProperties.isParallel()
+                ? refreshInParallel(currencies, mode, started + loaderProperties.getDeadline().toNanos())
+                : refreshSequentially(currencies, mode);
+        results.forEach(metrics::recordRefresh);
+
+        Set<String> updated = new TreeSet<>();
+        results.stream()
+                .filter(result -> result.insertedRows() > 0)
+                .forEach(result -> updated.add(result.currency()));
+
+        RefreshReport report = new RefreshReport(results, Duration.ofNanos(System.nanoTime() - started));
+        publishLoaded(updated, report.insertedRows());
+        return report;
+    }
+
+    private List<CurrencyRefreshResult> refreshSequentially(List<String> currencies, RefreshMode mode) {
+        List<CurrencyRefreshResult> results = new ArrayList<>(currencies.size());
+        for (String currency : currencies) {
+            results.add(refreshCurrency(currency, mode));
+        }
+        return results;
+    }
+
+    /**
+     * Runs every currency on its own virtual thread, limited to {@code maxConcurrency} concurrent
+     * fetches. Currencies still queued or running at the deadline are reported as timed out. Running
+     * fetches are not interrupted, since an interrupt during file I/O closes the H2 database; rows
+     * they commit late are announced with an event of their own once they finish.
+     */
+    private List<CurrencyRefreshResult> refreshInParallel(List<String> currencies,
+                                                          RefreshMode mode,
+                                                          long deadlineNanos) {
+        Semaphore permits = new Semaphore(Math.max(1, loaderProperties.getMaxConcurrency()));
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        Map<String, CompletableFuture<CurrencyRefreshResult>> futures = new LinkedHashMap<>();
+        for (String currency : currencies) {
+            futures.put(currency, CompletableFuture.supplyAsync(
+                    () -> refreshWithPermit(currency, mode, permits, deadlineNanos), executor));
+        }
+        executor.shutdown();
+
+        List<CurrencyRefreshResult> results = new ArrayList<>(currencies.size());
+        for (Map.Entry<String, CompletableFuture<CurrencyRefreshResult>> entry : futures.entrySet()) {
+            results.add(awaitResult(entry.getKey(), entry.getValue(), deadlineNanos));
+        }
+        return results;
+    }
+
+    private CurrencyRefreshResult refreshWithPermit(String currency,
+                                                    RefreshMode mode,
+                                                    Semaphore permits,
+                                                    long deadlineNanos) {
+        long waitStarted = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(deadlineNanos - waitStarted, TimeUnit.NANOSECONDS)) {
+                return CurrencyRefreshResult.timedOut(currency, Duration.ofNanos(System.nanoTime() - waitStarted));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return CurrencyRefreshResult.failed(currency,
+                    Duration.ofNanos(System.nanoTime() - waitStarted), "Interrupted");
+        }
+        try {
+            return refreshCurrency(currency, mode);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private CurrencyRefreshResult awaitResult(String currency,
+                                              CompletableFuture<CurrencyRefreshResult> future,
+                                              long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        try {
+            return future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            log.warn("Refresh of {} did not finish before the deadline", currency);
+            // reported with no rows here, so whatever it stores later is published on its own
+            future.thenAccept(this::publishLate);
+            return CurrencyRefreshResult.timedOut(currency, loaderProperties.getDeadline());
+        } catch (ExecutionException ex) {
+            return CurrencyRefreshResult.failed(currency, Duration.ZERO, String.valueOf(ex.getCause()));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return CurrencyRefreshResult.failed(currency, Duration.ZERO, "Interrupted");
+        }
+    }
+
+    private CurrencyRefreshResult refreshCurrency(String currency, RefreshMode mode) {
+        long started = System.nanoTime();
+        try {
+            int saved = loadCurrency(currency, mode);
+            return CurrencyRefreshResult.success(currency, saved, Duration.ofNanos(System.nanoTime() - started));
+        } catch (PartiallyLoadedException ex) {
+            log.warn("Refresh of {} failed after storing {} rows: {}",
+                    currency, ex.insertedRows(), ex.getCause().getMessage());
+            return CurrencyRefreshResult.failed(currency, ex.insertedRows(),
+                    Duration.ofNanos(System.nanoTime() - started), ex.getCause().getMessage());
+        } catch (RuntimeException ex) {
+            // one broken currency must not stop the others, whichever mode the loader runs in
+            log.warn("Failed to refresh exchange rates for {}: {}", currency, ex.getMessage());
+            return CurrencyRefreshResult.failed(currency, Duration.ofNanos(System.nanoTime() - started), ex.getMessage());
+        }
+    }
+
+    @Override
+    public int fetchAndLoadRatesForCurrency(String currency) {
+        return fetchAndLoadRatesForCurrency(currency, loaderProperties.getMode());
+    }
+
+    @Override
+    public int fetchAndLoadRatesForCurrency(String inputCurrency, RefreshMode mode) {
+        String currency = inputCurrency.toUpperCase().trim();
+        int saved;
+        try {
+            saved = loadCurrency(currency, mode);
+        } catch (PartiallyLoadedException ex) {
+            // the committed chunks must still reach the cache before the failure is reported
+            publishLoaded(Set.of(currency), ex.insertedRows());
+            throw (RuntimeException) ex.getCause();
+        }
+        if (saved > 0) {
+            publishLoaded(Set.of(currency), saved);
+        }
+        return saved;
+    }
+
+    private int loadCurrency(String inputCurrency, RefreshMode mode) {
+        String currency = inputCurrency.toUpperCase().trim();
+        ReentrantLock lock = currencyLocks.computeIfAbsent(currency, c -> new ReentrantLock());
+        lock.lock();
+        try {
+            return fetchAndPersist(currency, mode);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int fetchAndPersist(String currency, RefreshMode mode) {
+        LocalDate startPeriod = mode == RefreshMode.INCREMENTAL
+                ? repository.findLatestRateDate(currency).orElse(null)
+                : null;
+        PersistedChunks persisted = new PersistedChunks();
+
+        try {
+            return loaderProperties.isStreaming()
+                    ? streamAndPersist(currency, startPeriod, persisted)
+                    : fetchAndParse(currency, startPeriod, persisted);
+        } catch (RuntimeException ex) {
+            // chunks are committed one by one, so a late failure leaves earlier rows in place
+            if (persisted.rows > 0) {
+                throw new PartiallyLoadedException(persisted.rows, ex);
+            }
+            throw ex;
+        }
+    }
+
+    private int streamAndPersist(String currency, LocalDate startPeriod, PersistedChunks persisted) {
+        // Parsing is interleaved with the download, so both count as fetch time.
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            int saved = client.streamExchangeRatesCsv(currency, startPeriod, reader ->
+                    BundesbankCsvParser.parse(currency, reader, loaderProperties.getChunkSize(),
+                            chunk -> persistTimed(currency, chunk, persisted)));
+            success = true;
+            return saved;
+        } finally {
+            metrics.recordFetch(currency, System.nanoTime() - started - persisted.nanos, success);
+        }
+    }
+
+    private int fetchAndParse(String currency, LocalDate startPeriod, PersistedChunks persisted) {
+        String csv = fetchCsv(currency, startPeriod);
+
+        long parseStarted = System.nanoTime();
+        int saved = BundesbankCsvParser.parse(currency, new StringReader(csv), loaderProperties.getChunkSize(),
+                chunk -> persistTimed(currency, chunk, persisted));
+        metrics.recordParse(currency, System.nanoTime() - parseStarted - persisted.nanos);
+        return saved;
+    }
+
+    // Incremental refreshes start at the latest stored date (inclusive), so the response is never empty
+    // and the dedup query only has to check a handful of dates.
+    private String fetchCsv(String currency, LocalDate startPeriod) {
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            String csv;
+            if (startPeriod != null) {
+                log.debug("Fetching {} rates since {}", currency, startPeriod);
+                csv = client.fetchExchangeRatesCsv(currency, startPeriod);
+            } else {
+                csv = client.fetchExchangeRatesCsv(currency);
+            }
+            success = true;
+            return csv;
+        } finally {
+            metrics.recordFetch(currency, System.nanoTime() - started, success);
+        }
+    }
+
+    private int persistTimed(String currency, Map<LocalDate, BigDecimal> parsed, PersistedChunks persisted) {
+        long started = System.nanoTime();
+        int inserted = persistNewRates(currency, parsed);
+        long elapsed = System.nanoTime() - started;
+        persisted.add(inserted, elapsed);
+        metrics.recordPersist(currency, elapsed, inserted);
+        return inserted;
+    }
+
+    private int persistNewRates(String currency, Map<LocalDate, BigDecimal> parsed) {
+        if (parsed.isEmpty()) {
+            return 0;
+        }
+
+        if (loaderProperties.isBulkWrite()) {
+            int inserted = bulkWriter.insertMissing(currency, parsed);
+            log.info("Stored {} new exchange rates for {}", inserted, currency);
+            return inserted;
+        }
+
+        Set<LocalDate> existing = new TreeSet<>();
+        repository.findByCurrencyAndRateDateIn(currency, parsed.keySet())
+                .forEach(rate -> existing.add(rate.getRateDate()));
+
+        List<ExchangeRate> newRates = parsed.entrySet().stream()
+                .filter(entry -> !existing.contains(entry.getKey()))
+                .map(entry -> new ExchangeRate(currency, entry.getValue(), entry.getKey()))
+                .toList();
+
+        if (newRates.isEmpty()) {
+            log.debug("No new exchange rates for {}", currency);
+            return 0;
+        }
+
+        repository.saveAll(newRates);
+        log.info("Stored {} new exchange rates for {}", newRates.size(), currency);
+        return newRates.size();
+    }
+
+    private void publishLate(CurrencyRefreshResult result) {
+        if (result.insertedRows() > 0) {
+            log.info("Refresh of {} finished after the deadline with {} new rows",
+                    result.currency(), result.insertedRows());
+            publishLoaded(Set.of(result.currency()), result.insertedRows());
+        }
+    }
+
+    private void publishLoaded(Set<String> currencies, int inserted) {
+        if (inserted > 0) {
+            eventPublisher.publishEvent(new ExchangeRatesLoadedEvent(Set.copyOf(currencies), inserted));
+        }
+    }
+
+    // Rows and time spent persisting the chunks of one load; parse callbacks run on the loading thread.
+    private static final class PersistedChunks {
+
+        private int rows;
+        private long nanos;
+
+        void add(int insertedRows, long elapsedNanos) {
+            rows += insertedRows;
+            nanos += elapsedNanos;
+        }
+    }
+
+    // A load that failed after some chunks had been committed.
+    private static final class PartiallyLoadedException extends RuntimeException {
+
+        private final int insertedRows;
+
+        PartiallyLoadedException(int insertedRows, RuntimeException cause) {
+            super(cause);
+            this.insertedRows = insertedRows;
+        }
+
+        int insertedRows() {
+            return insertedRows;
+        }
+    }
+}
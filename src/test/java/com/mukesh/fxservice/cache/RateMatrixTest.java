@@ -0,0 +1,39 @@
+package com.mukesh.fxservice.cache;
+
+import com.mukesh.fxservice.domain.ExchangeRate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateMatrixTest {
+
+    @Test
+    void build_servesStoredRatesAndLeavesGapsEmpty() {
+        RateMatrix matrix = RateMatrix.build(List.of(
+                new ExchangeRate("USD", new BigDecimal("1.100000"), LocalDate.parse("2024-01-05")),
+                new ExchangeRate("USD", new BigDecimal("1.2"), LocalDate.parse("2024-01-08")),
+                new ExchangeRate("JPY", new BigDecimal("160.12"), LocalDate.parse("2024-01-08"))
+        ), 1);
+
+        assertThat(matrix.findRate("USD", LocalDate.parse("2024-01-05"))).isEqualTo(new BigDecimal("1.100000"));
+        assertThat(matrix.findRate("USD", LocalDate.parse("2024-01-08"))).isEqualTo(new BigDecimal("1.200000"));
+        assertThat(matrix.findRate("JPY", LocalDate.parse("2024-01-08"))).isEqualTo(new BigDecimal("160.120000"));
+        assertThat(matrix.findRate("USD", LocalDate.parse("2024-01-06"))).isNull();
+        assertThat(matrix.findRate("USD", LocalDate.parse("2024-01-09"))).isNull();
+        assertThat(matrix.findRate("GBP", LocalDate.parse("2024-01-08"))).isNull();
+        assertThat(matrix.getGeneration()).isEqualTo(1);
+    }
+
+    @Test
+    void build_skipsRatesThatDoNotFitTheFixedScale() {
+        RateMatrix matrix = RateMatrix.build(List.of(
+                new ExchangeRate("USD", new BigDecimal("1.1234567"), LocalDate.parse("2024-01-05"))
+        ), 1);
+
+        assertThat(matrix.findRate("USD", LocalDate.parse("2024-01-05"))).isNull();
+    }
+}
@@ -0,0 +1,61 @@
+package com.mukesh.fxservice.cache;
+
+import com.mukesh.fxservice.domain.ExchangeRate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeThenRead_restoresEverySeries() throws IOException {
+        RateMatrix matrix = RateMatrix.build(List.of(
+                new ExchangeRate("USD", new BigDecimal("1.100000"), LocalDate.parse("2024-01-05")),
+                new ExchangeRate("USD", new BigDecimal("1.2"), LocalDate.parse("2024-01-08")),
+                new ExchangeRate("JPY", new BigDecimal("160.12"), LocalDate.parse("2024-01-08"))
+        ), 1);
+        Path file = directory.resolve("rates.snapshot");
+
+        RateSnapshotFile.write(matrix, file);
+        RateMatrix restored = RateSnapshotFile.read(file, 7);
+
+        assertThat(restored.getGeneration()).isEqualTo(7);
+        assertThat(restored.findRate("USD", LocalDate.parse("2024-01-05"))).isEqualTo(new BigDecimal("1.100000"));
+        assertThat(restored.findRate("USD", LocalDate.parse("2024-01-06"))).isNull();
+        assertThat(restored.findRate("USD", LocalDate.parse("2024-01-08"))).isEqualTo(new BigDecimal("1.200000"));
+        assertThat(restored.findRate("JPY", LocalDate.parse("2024-01-08"))).isEqualTo(new BigDecimal("160.120000"));
+        assertThat(restored.getSeries("USD").size()).isEqualTo(2);
+        assertThat(directory).isDirectoryContaining(path -> path.equals(file))
+                .isDirectoryNotContaining("glob:**.tmp");
+    }
+
+    @Test
+    void read_rejectsCorruptAndTruncatedFiles() throws IOException {
+        RateMatrix matrix = RateMatrix.build(List.of(
+                new ExchangeRate("USD", new BigDecimal("1.100000"), LocalDate.parse("2024-01-05"))
+        ), 1);
+        Path file = directory.resolve("rates.snapshot");
+        RateSnapshotFile.write(matrix, file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> RateSnapshotFile.read(file, 2));
+
+        Files.write(file, Arrays.copyOf(bytes, 10));
+        assertThrows(IOException.class, () -> RateSnapshotFile.read(file, 2));
+    }
+}
@@ -0,0 +1,43 @@
+package com.mukesh.fxservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBodyCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesBeyondByteBudget() {
+        ResponseBodyCache<String> cache = new ResponseBodyCache<>(100);
+
+        cache.put("a", entry(40));
+        cache.put("b", entry(40));
+        assertThat(cache.get("a")).isNotNull();
+
+        cache.put("c", entry(40));
+
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+        assertThat(cache.totalBytes()).isEqualTo(80);
+    }
+
+    @Test
+    void ignoresEntriesLargerThanBudgetAndClears() {
+        ResponseBodyCache<String> cache = new ResponseBodyCache<>(100);
+
+        cache.put("huge", entry(101));
+        cache.put("small", entry(10));
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.totalBytes()).isZero();
+    }
+
+    private static ResponseBodyCache.Entry entry(int bytes) {
+        return new ResponseBodyCache.Entry("application/json", Map.of(), new byte[bytes], null);
+    }
+}
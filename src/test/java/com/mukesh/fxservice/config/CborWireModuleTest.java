@@ -0,0 +1,56 @@
+package com.mukesh.fxservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mukesh.fxservice.dto.ExchangeRateResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CborWireModuleTest {
+
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor()
+            .modulesToInstall(new CborWireModule())
+            .build();
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+
+    private final ExchangeRateResponse rate =
+            new ExchangeRateResponse("USD", new BigDecimal("1.100000"), LocalDate.parse("2024-01-10"));
+
+    @Test
+    void writesRatesAsScaledIntegersAndDatesAsEpochDays() throws Exception {
+        byte[] bytes = cbor.writeValueAsBytes(rate);
+
+        // tag 4 [-6, 1100000]
+        assertThat(bytes).containsSequence(0xC4, 0x82, 0x25, 0x1A, 0x00, 0x10, 0xC8, 0xE0);
+        // tag 100, 19732 days since 1970-01-01
+        assertThat(bytes).containsSequence(0xD8, 0x64, 0x19, 0x4D, 0x14);
+        assertThat(bytes.length).isLessThan(json.writeValueAsBytes(rate).length);
+    }
+
+    @Test
+    void roundTripsWithScaleAndAcceptsIsoDates() throws Exception {
+        assertThat(cbor.readValue(cbor.writeValueAsBytes(rate), ExchangeRateResponse.class)).isEqualTo(rate);
+
+        byte[] isoDate = Jackson2ObjectMapperBuilder.cbor()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writeValueAsBytes(rate);
+        assertThat(cbor.readValue(isoDate, ExchangeRateResponse.class)).isEqualTo(rate);
+    }
+
+    @Test
+    void acceptsDatesWrittenAsArrays() throws Exception {
+        byte[] arrayDate = Jackson2ObjectMapperBuilder.cbor()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writeValueAsBytes(rate);
+
+        assertThat(cbor.readValue(arrayDate, ExchangeRateResponse.class)).isEqualTo(rate);
+    }
+}
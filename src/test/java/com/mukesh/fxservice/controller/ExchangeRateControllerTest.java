@@ -1,19 +1,45 @@
 package com.mukesh.fxservice.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.mukesh.fxservice.dto.BatchConversionResult;
+import com.mukesh.fxservice.dto.ConversionRequest;
 import com.mukesh.fxservice.dto.ConversionResponse;
+import com.mukesh.fxservice.dto.ExchangeRateResponse;
+import com.mukesh.fxservice.exception.RateNotFoundException;
 import com.mukesh.fxservice.service.ExchangeRateService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -99,4 +125,186 @@ class ExchangeRateControllerTest {
                         .param("date", "2050-01-01"))
                 .andExpect(status().isInternalServerError());
     }
+
+    @Test
+    void shouldConvertBatch() throws Exception {
+
+        ConversionResponse response = new ConversionResponse(
+                "USD",
+                new BigDecimal("100"),
+                new BigDecimal("1.100000"),
+                new BigDecimal("90.909091"),
+                LocalDate.parse("2024-01-10")
+        );
+
+        when(service.convertBatch(anyList())).thenReturn(List.of(
+                new BatchConversionResult(0, response, null),
+                new BatchConversionResult(1, null, "No exchange rate data available for date: 2024-01-13")));
+
+        mockMvc.perform(post("/api/conversions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"conversions": [
+                                  {"currency": "USD", "amount": 100, "date": "2024-01-10"},
+                                  {"currency": "USD", "amount": 100, "date": "2024-01-13"}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].conversion.convertedAmount").value(90.909091))
+                .andExpect(jsonPath("$[1].error").exists());
+    }
+
+    @Test
+    void shouldNegotiateCompactCbor() throws Exception {
+
+        ConversionResponse response = new ConversionResponse(
+                "USD",
+                new BigDecimal("100"),
+                new BigDecimal("1.100000"),
+                new BigDecimal("90.909091"),
+                LocalDate.parse("2024-01-10")
+        );
+        when(service.convertBatch(anyList())).thenReturn(List.of(new BatchConversionResult(0, response, null)));
+
+        CBORMapper cbor = new CBORMapper();
+        byte[] request = cbor.writeValueAsBytes(Map.of("conversions", List.of(
+                Map.of("currency", "USD", "amount", 100, "date", LocalDate.parse("2024-01-10").toEpochDay()))));
+
+        MvcResult result = mockMvc.perform(post("/api/conversions/batch")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_CBOR_VALUE))
+                .andReturn();
+
+        JsonNode conversion = cbor.readTree(result.getResponse().getContentAsByteArray()).get(0).get("conversion");
+        assertThat(conversion.get("rate").decimalValue()).isEqualByComparingTo("1.100000");
+        assertThat(conversion.get("convertedAmount").decimalValue()).isEqualByComparingTo("90.909091");
+        assertThat(conversion.get("rateDate").longValue()).isEqualTo(LocalDate.parse("2024-01-10").toEpochDay());
+
+        verify(service).convertBatch(List.of(
+                new ConversionRequest("USD", new BigDecimal("100"), LocalDate.parse("2024-01-10"))));
+    }
+
+    @Test
+    void shouldReturnBadRequestForEmptyBatch() throws Exception {
+
+        mockMvc.perform(post("/api/conversions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"conversions\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldMarkHistoricalConversionImmutableAndAnswer304() throws Exception {
+
+        when(service.getDataGeneration()).thenReturn(3L);
+        when(service.getDataLoadedAt()).thenReturn(Instant.parse("2024-06-01T03:00:00Z"));
+        when(service.hasCompleteRates(LocalDate.parse("2024-01-10"))).thenReturn(true);
+        when(service.convert("USD", new BigDecimal("100"), LocalDate.parse("2024-01-10")))
+                .thenReturn(new ConversionResponse("USD", new BigDecimal("100"), new BigDecimal("1.100000"),
+                        new BigDecimal("90.909091"), LocalDate.parse("2024-01-10")));
+
+        MvcResult first = mockMvc.perform(get("/api/conversions")
+                        .param("currency", "USD")
+                        .param("amount", "100")
+                        .param("date", "2024-01-10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                .andReturn();
+
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/");
+
+        mockMvc.perform(get("/api/conversions")
+                        .param("currency", "USD")
+                        .param("amount", "100")
+                        .param("date", "2024-01-10")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"));
+
+        verify(service, times(1)).convert("USD", new BigDecimal("100"), LocalDate.parse("2024-01-10"));
+    }
+
+    @Test
+    void shouldUseShortTtlForPastDateWithIncompleteRates() throws Exception {
+
+        when(service.getDataGeneration()).thenReturn(3L);
+        when(service.getDataLoadedAt()).thenReturn(Instant.parse("2024-06-01T03:00:00Z"));
+        when(service.hasCompleteRates(LocalDate.parse("2024-01-13"))).thenReturn(false);
+        // a Saturday, answered with Friday's rate
+        when(service.convert("USD", new BigDecimal("100"), LocalDate.parse("2024-01-13")))
+                .thenReturn(new ConversionResponse("USD", new BigDecimal("100"), new BigDecimal("1.100000"),
+                        new BigDecimal("90.909091"), LocalDate.parse("2024-01-12")));
+
+        mockMvc.perform(get("/api/conversions")
+                        .param("currency", "USD")
+                        .param("amount", "100")
+                        .param("date", "2024-01-13"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"));
+    }
+
+    @Test
+    void shouldUseShortTtlWithoutDateAndSkipHeadersOnErrors() throws Exception {
+
+        when(service.getDataGeneration()).thenReturn(3L);
+        when(service.getDataLoadedAt()).thenReturn(Instant.parse("2024-06-01T03:00:00Z"));
+        when(service.getAvailableCurrencies()).thenReturn(List.of("USD"));
+        doThrow(new RateNotFoundException("No exchange rate data available for date: 2024-01-13"))
+                .when(service).convert("USD", new BigDecimal("100"), LocalDate.parse("2024-01-13"));
+
+        mockMvc.perform(get("/api/currencies"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"));
+
+        mockMvc.perform(get("/api/conversions")
+                        .param("currency", "USD")
+                        .param("amount", "100")
+                        .param("date", "2024-01-13"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void shouldServeRepeatedRatesByDateFromResponseCache() throws Exception {
+
+        LocalDate date = LocalDate.parse("2024-01-10");
+        when(service.getDataGeneration()).thenReturn(7L);
+        when(service.getDataLoadedAt()).thenReturn(Instant.parse("2024-06-01T03:00:00Z"));
+        when(service.hasCompleteRates(date)).thenReturn(true);
+        when(service.getRatesByDate(eq(date), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(
+                        new ExchangeRateResponse("USD", new BigDecimal("1.100000"), date))));
+
+        String etag = mockMvc.perform(get("/api/rates").param("date", "2024-01-10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].currency").value("USD"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/rates").param("date", "2024-01-10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].rate").value(1.1))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+
+        byte[] gzipped = mockMvc.perform(get("/api/rates").param("date", "2024-01-10")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"USD\"");
+        }
+
+        verify(service, times(1)).getRatesByDate(eq(date), any(Pageable.class));
+    }
 }
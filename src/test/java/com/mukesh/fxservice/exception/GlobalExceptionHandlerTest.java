@@ -3,6 +3,7 @@ package com.mukesh.fxservice.exception;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
@@ -10,7 +11,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestClientException;
 
+import java.time.Duration;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest
@@ -32,8 +37,21 @@ class GlobalExceptionHandlerTest {
                 .andExpect(status().isMethodNotAllowed());
     }
 
+    @Test
+    void rateLimitMappedTo429WithRetryAfterRoundedUp() throws Exception {
+        mockMvc.perform(get("/throw/rate-limit").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
     @RestController
     static class TestController {
+        @GetMapping("/throw/rate-limit")
+        public void rateLimit() {
+            throw new RateLimitExceededException("Rate limit exceeded", Duration.ofMillis(1200));
+        }
+
         @GetMapping("/throw/rest-client")
         public void restClient() {
             throw new RestClientException("downstream error");
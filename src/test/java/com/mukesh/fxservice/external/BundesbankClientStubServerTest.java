@@ -0,0 +1,167 @@
+package com.mukesh.fxservice.external;
+
+import com.mukesh.fxservice.config.BundesbankClientProperties;
+import com.mukesh.fxservice.config.RestTemplateConfig;
+import com.mukesh.fxservice.exception.CircuitOpenException;
+import com.mukesh.fxservice.external.impl.BundesbankClient;
+import com.mukesh.fxservice.external.impl.CircuitBreaker;
+import com.mukesh.fxservice.service.impl.BundesbankCsvParser;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the client with the production {@link RestTemplateConfig} against a local HTTP stub that
+ * answers with a scripted sequence of status codes and dropped connections.
+ */
+class BundesbankClientStubServerTest {
+
+    private static final String SUFFIX = "EUR.BB.AC.000?format=csv&lang=en";
+    private static final String CSV = "2024-01-10,1.0950\n";
+
+    private HttpServer server;
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger droppedResponses = new AtomicInteger();
+    private BundesbankClientProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            if (droppedResponses.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                // announce a longer body than is sent, then close the connection
+                byte[] body = CSV.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length + 100);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.flush();
+                exchange.close();
+                return;
+            }
+            Integer status = statuses.poll();
+            byte[] body = (status == null || status == 200 ? CSV : "error").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status == null ? 200 : status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        properties = new BundesbankClientProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofMillis(5));
+        properties.setMaxBackoff(Duration.ofMillis(20));
+        properties.setFailureThreshold(2);
+        properties.setOpenDuration(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private BundesbankClient client() {
+        String base = "http://localhost:" + server.getAddress().getPort();
+        return new BundesbankClient(new RestTemplateConfig().restTemplate(properties), base, SUFFIX, properties);
+    }
+
+    @Test
+    void fetch_retriesServerErrorsAndSucceeds() {
+        statuses.add(503);
+        statuses.add(500);
+
+        String csv = client().fetchExchangeRatesCsv("USD");
+
+        assertThat(csv).isEqualTo(CSV);
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void fetch_doesNotRetryClientErrors() {
+        statuses.add(404);
+        BundesbankClient client = client();
+
+        assertThrows(HttpClientErrorException.class, () -> client.fetchExchangeRatesCsv("XXX"));
+
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void fetch_opensCircuitAfterRepeatedFailuresAndStopsCallingUpstream() {
+        for (int i = 0; i < 6; i++) {
+            statuses.add(503);
+        }
+        BundesbankClient client = client();
+
+        assertThrows(HttpServerErrorException.class, () -> client.fetchExchangeRatesCsv("USD"));
+        assertThrows(HttpServerErrorException.class, () -> client.fetchExchangeRatesCsv("GBP"));
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(requests.get()).isEqualTo(6);
+
+        assertThrows(CircuitOpenException.class, () -> client.fetchExchangeRatesCsv("JPY"));
+        assertThat(requests.get()).isEqualTo(6);
+    }
+
+    @Test
+    void fetch_clientErrorLeavesFailureCountInPlace() {
+        for (int i = 0; i < 3; i++) {
+            statuses.add(503);
+        }
+        statuses.add(404);
+        for (int i = 0; i < 3; i++) {
+            statuses.add(503);
+        }
+        BundesbankClient client = client();
+
+        assertThrows(HttpServerErrorException.class, () -> client.fetchExchangeRatesCsv("USD"));
+        assertThrows(HttpClientErrorException.class, () -> client.fetchExchangeRatesCsv("XXX"));
+        assertThrows(HttpServerErrorException.class, () -> client.fetchExchangeRatesCsv("GBP"));
+
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void stream_retriesDownloadDroppedMidBody() {
+        droppedResponses.set(1);
+
+        int parsed = client().streamExchangeRatesCsv("USD", null, reader ->
+                BundesbankCsvParser.parse("USD", reader, 100, Map::size));
+
+        assertThat(parsed).isEqualTo(1);
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void stream_countsDroppedDownloadsTowardsTheCircuit() {
+        droppedResponses.set(6);
+        BundesbankClient client = client();
+
+        for (String currency : new String[]{"USD", "GBP"}) {
+            assertThrows(ResourceAccessException.class, () -> client.streamExchangeRatesCsv(currency, null,
+                    reader -> BundesbankCsvParser.parse(currency, reader, 100, Map::size)));
+        }
+
+        assertThat(requests.get()).isEqualTo(6);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -1,10 +1,13 @@
 package com.mukesh.fxservice.external;
 
+import com.mukesh.fxservice.config.BundesbankClientProperties;
 import com.mukesh.fxservice.external.impl.BundesbankClient;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDate;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -16,7 +19,7 @@ class BundesbankClientTest {
         RestTemplate restTemplate = mock(RestTemplate.class);
         String base = "https://api.test";
         String suffix = "EUR.BB.AC.000?format=csv&lang=en";
-        BundesbankClient client = new BundesbankClient(restTemplate, base, suffix);
+        BundesbankClient client = new BundesbankClient(restTemplate, base, suffix, new BundesbankClientProperties());
 
         String expectedUrl = String.format("%s/D.%s.%s", base, "USD", suffix);
         when(restTemplate.getForObject(expectedUrl, String.class)).thenReturn("a,b,c\n");
@@ -31,7 +34,7 @@ class BundesbankClientTest {
         RestTemplate restTemplate = mock(RestTemplate.class);
         String base = "https://api.test";
         String suffix = "EUR.BB.AC.000?format=csv&lang=en";
-        BundesbankClient client = new BundesbankClient(restTemplate, base, suffix);
+        BundesbankClient client = new BundesbankClient(restTemplate, base, suffix, new BundesbankClientProperties());
 
         String expectedUrl = String.format("%s/D.%s.%s", base, "USD", suffix);
         when(restTemplate.getForObject(expectedUrl, String.class)).thenReturn(null);
@@ -45,7 +48,7 @@ class BundesbankClientTest {
         RestTemplate restTemplate = mock(RestTemplate.class);
         String base = "https://api.test";
         String suffix = "EUR.BB.AC.000?format=csv&lang=en";
-        BundesbankClient client = new BundesbankClient(restTemplate, base, suffix);
+        BundesbankClient client = new BundesbankClient(restTemplate, base, suffix, new BundesbankClientProperties());
 
         String expectedUrl = String.format("%s/D.%s.%s", base, "USD", suffix);
         when(restTemplate.getForObject(expectedUrl, String.class)).thenThrow(new RestClientException("down"));
@@ -53,4 +56,19 @@ class BundesbankClientTest {
         assertThrows(RestClientException.class, () -> client.fetchExchangeRatesCsv("USD"));
         verify(restTemplate, times(1)).getForObject(expectedUrl, String.class);
     }
+
+    @Test
+    void fetchExchangeRatesCsv_withStartPeriod_appendsQueryParameter() {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        String base = "https://api.test";
+        String suffix = "EUR.BB.AC.000?format=csv&lang=en";
+        BundesbankClient client = new BundesbankClient(restTemplate, base, suffix, new BundesbankClientProperties());
+
+        String expectedUrl = String.format("%s/D.%s.%s&startPeriod=2024-01-10", base, "USD", suffix);
+        when(restTemplate.getForObject(expectedUrl, String.class)).thenReturn("a,b,c\n");
+
+        client.fetchExchangeRatesCsv("USD", LocalDate.parse("2024-01-10"));
+
+        verify(restTemplate, times(1)).getForObject(expectedUrl, String.class);
+    }
 }
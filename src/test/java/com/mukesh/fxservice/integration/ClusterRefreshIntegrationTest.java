@@ -0,0 +1,150 @@
+package com.mukesh.fxservice.integration;
+
+import com.mukesh.fxservice.ExchangeRateServiceApplication;
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import com.mukesh.fxservice.scheduler.ClusterRefreshCoordinator;
+import com.mukesh.fxservice.scheduler.ExchangeRateScheduler;
+import com.sun.net.httpserver.HttpServer;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two application contexts sharing one H2 TCP server, fetching from a local Bundesbank stub.
+ */
+class ClusterRefreshIntegrationTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-01-10");
+    private static final String CSV = """
+            2024-01-09,1.100000,
+            2024-01-10,1.200000,
+            """;
+
+    private Server database;
+    private HttpServer bundesbank;
+    private final AtomicInteger upstreamRequests = new AtomicInteger();
+    private volatile long responseDelayMillis;
+    private String databaseUrl;
+
+    @BeforeEach
+    void setUp() throws SQLException, IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        database = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+        databaseUrl = "jdbc:h2:tcp://localhost:" + port + "/mem:cluster-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+        bundesbank = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        bundesbank.createContext("/", exchange -> {
+            upstreamRequests.incrementAndGet();
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = CSV.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        bundesbank.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bundesbank.stop(0);
+        database.stop();
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeId, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=" + databaseUrl,
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.devtools.restart.enabled=false",
+                "--app.supported-currencies=USD,GBP",
+                "--app.fx.refresh-cron=-",
+                "--app.fx.loader.mode=FULL",
+                "--app.fx.cluster.enabled=true",
+                "--app.fx.cluster.node-id=" + nodeId,
+                "--app.fx.cluster.poll-interval=PT1H",
+                "--bundesbank.base-url=http://localhost:" + bundesbank.getAddress().getPort()));
+        args.addAll(List.of(extraArgs));
+        // command-line arguments, unlike builder properties, take precedence over application.properties
+        return new SpringApplicationBuilder(ExchangeRateServiceApplication.class)
+                .run(args.toArray(String[]::new));
+    }
+
+    @Test
+    void onlyOneNodeRefreshes_andTheOtherPicksUpTheNewRates() throws InterruptedException {
+        try (ConfigurableApplicationContext nodeA = startNode("node-a");
+             ConfigurableApplicationContext nodeB = startNode("node-b")) {
+
+            Thread refreshA = Thread.ofVirtual().start(nodeA.getBean(ExchangeRateScheduler.class)::refreshRates);
+            Thread refreshB = Thread.ofVirtual().start(nodeB.getBean(ExchangeRateScheduler.class)::refreshRates);
+            refreshA.join();
+            refreshB.join();
+
+            // USD and GBP were downloaded once, by whichever node won the lease
+            assertThat(upstreamRequests.get()).isEqualTo(2);
+            assertThat(nodeA.getBean(ExchangeRateRepository.class).count()).isEqualTo(4);
+
+            nodeA.getBean(ClusterRefreshCoordinator.class).pollForChanges();
+            nodeB.getBean(ClusterRefreshCoordinator.class).pollForChanges();
+
+            assertThat(nodeA.getBean(ExchangeRateCache.class).findRate("USD", DATE))
+                    .isEqualTo(new BigDecimal("1.200000"));
+            assertThat(nodeB.getBean(ExchangeRateCache.class).findRate("USD", DATE))
+                    .isEqualTo(new BigDecimal("1.200000"));
+
+            // the lease is kept until it expires, so a late cron on either node does not refresh again
+            nodeA.getBean(ExchangeRateScheduler.class).refreshRates();
+            nodeB.getBean(ExchangeRateScheduler.class).refreshRates();
+            assertThat(upstreamRequests.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void ratesStoredAfterTheDeadlineStillReachTheOtherNode() throws InterruptedException {
+        try (ConfigurableApplicationContext nodeA = startNode("node-a", "--app.fx.loader.deadline=PT0.5S");
+             ConfigurableApplicationContext nodeB = startNode("node-b")) {
+
+            responseDelayMillis = 1_000;
+            nodeA.getBean(ExchangeRateScheduler.class).refreshRates();
+
+            // the refresh reported both currencies as timed out; their rows arrive afterwards
+            ExchangeRateCache cacheB = nodeB.getBean(ExchangeRateCache.class);
+            ClusterRefreshCoordinator coordinatorB = nodeB.getBean(ClusterRefreshCoordinator.class);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+            while (cacheB.findRate("GBP", DATE) == null && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+                coordinatorB.pollForChanges();
+            }
+
+            assertThat(cacheB.findRate("USD", DATE)).isEqualTo(new BigDecimal("1.200000"));
+            assertThat(cacheB.findRate("GBP", DATE)).isEqualTo(new BigDecimal("1.200000"));
+        }
+    }
+}
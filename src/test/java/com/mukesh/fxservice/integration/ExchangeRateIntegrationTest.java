@@ -1,5 +1,10 @@
 package com.mukesh.fxservice.integration;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.config.CborWireModule;
+import com.mukesh.fxservice.dto.ExchangeRateResponse;
 import com.mukesh.fxservice.external.impl.BundesbankClient;
 import com.mukesh.fxservice.domain.ExchangeRate;
 import com.mukesh.fxservice.repository.ExchangeRateRepository;
@@ -9,14 +14,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -29,6 +41,9 @@ class ExchangeRateIntegrationTest {
     @Autowired
     private ExchangeRateRepository repository;
 
+    @Autowired
+    private ExchangeRateCache rateCache;
+
     @MockBean
     private BundesbankClient bundesbankClient;
 
@@ -44,6 +59,7 @@ class ExchangeRateIntegrationTest {
 
         repository.deleteAll();
         repository.save(new ExchangeRate("USD", new BigDecimal("1.200000"), LocalDate.parse("2024-01-10")));
+        rateCache.reload();
     }
 
 
@@ -81,4 +97,110 @@ class ExchangeRateIntegrationTest {
                         .param("date", "2024-01-10"))
                 .andExpect(status().isBadRequest());
     }
+
+
+    @Test
+    void shouldStreamCsvExport() throws Exception {
+
+        MvcResult result = mockMvc.perform(get("/api/rates/export")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string("currency,rate,rateDate\nUSD,1.200000,2024-01-10\n"));
+    }
+
+
+    @Test
+    void shouldStreamCborSequenceExport() throws Exception {
+
+        MvcResult result = mockMvc.perform(get("/api/rates/export")
+                        .param("format", "cbor"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor-seq"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().modulesToInstall(new CborWireModule()).build();
+        try (MappingIterator<ExchangeRateResponse> rows =
+                     cbor.readerFor(ExchangeRateResponse.class).readValues(body)) {
+            assertThat(rows.readAll()).containsExactly(
+                    new ExchangeRateResponse("USD", new BigDecimal("1.200000"), LocalDate.parse("2024-01-10")));
+        }
+    }
+
+
+    @Test
+    void shouldRejectUnknownExportFormat() throws Exception {
+
+        mockMvc.perform(get("/api/rates/export")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    void shouldWalkRatesWithCursor() throws Exception {
+
+        repository.saveAll(List.of(
+                new ExchangeRate("GBP", new BigDecimal("0.860000"), LocalDate.parse("2024-01-10")),
+                new ExchangeRate("USD", new BigDecimal("1.100000"), LocalDate.parse("2024-01-09"))));
+
+        MvcResult first = mockMvc.perform(get("/api/rates/cursor")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].currency").value("GBP"))
+                .andExpect(jsonPath("$.content[1].rateDate").value("2024-01-09"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+
+        String cursor = com.jayway.jsonpath.JsonPath.read(
+                first.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/rates/cursor")
+                        .param("size", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].rateDate").value("2024-01-10"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+
+    @Test
+    void shouldRejectInvalidCursorAndOversizedPage() throws Exception {
+
+        mockMvc.perform(get("/api/rates/cursor")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/rates/cursor")
+                        .param("size", "501"))
+                .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    void shouldReturnSeriesForRangeAndRejectInvertedRange() throws Exception {
+
+        mockMvc.perform(get("/api/rates/USD/series")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currency").value("USD"))
+                .andExpect(jsonPath("$.points[0].date").value("2024-01-10"))
+                .andExpect(jsonPath("$.points[0].rate").value(1.2));
+
+        mockMvc.perform(get("/api/rates/USD/series")
+                        .param("from", "2024-02-01")
+                        .param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Parameter"));
+    }
 }
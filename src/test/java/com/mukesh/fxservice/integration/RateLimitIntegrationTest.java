@@ -0,0 +1,86 @@
+package com.mukesh.fxservice.integration;
+
+import com.mukesh.fxservice.external.impl.BundesbankClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        // cached responses are written by a servlet filter before the limiter runs
+        "app.fx.response-cache.enabled=false",
+        "app.fx.rate-limit.client-id-header=X-Client-Id",
+        "app.fx.rate-limit.endpoints.currencies.path=/api/currencies",
+        "app.fx.rate-limit.endpoints.currencies.requests=2",
+        "app.fx.rate-limit.endpoints.currencies.per=1h",
+        "app.fx.rate-limit.endpoints.batch.requests=4",
+        "app.fx.rate-limit.endpoints.batch.per=1h"
+})
+@AutoConfigureMockMvc
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BundesbankClient bundesbankClient;
+
+    @Test
+    void rejectsRequestsOverTheClientsQuotaWith429() throws Exception {
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/currencies").header("X-Client-Id", "noisy"))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/currencies").header("X-Client-Id", "noisy"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1800"))
+                .andExpect(jsonPath("$.path").value("/api/currencies"));
+
+        // other clients are unaffected
+        mockMvc.perform(get("/api/currencies").header("X-Client-Id", "quiet"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void chargesBatchConversionsPerItem() throws Exception {
+
+        String batch = """
+                {"conversions": [
+                  {"currency": "USD", "amount": 100, "date": "2024-01-10"},
+                  {"currency": "USD", "amount": 200, "date": "2024-01-10"},
+                  {"currency": "GBP", "amount": 100, "date": "2024-01-10"}
+                ]}
+                """;
+
+        mockMvc.perform(post("/api/conversions/batch").header("X-Client-Id", "batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isOk());
+
+        // one token left, three items asked for
+        mockMvc.perform(post("/api/conversions/batch").header("X-Client-Id", "batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void rejectsOversizedPages() throws Exception {
+
+        mockMvc.perform(get("/api/rates").param("size", "1000000"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,138 @@
+package com.mukesh.fxservice.integration;
+
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.external.impl.BundesbankClient;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import com.mukesh.fxservice.repository.ReactiveExchangeRateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.fx.reactive.enabled=true")
+@AutoConfigureMockMvc
+class ReactiveExchangeRateIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExchangeRateRepository repository;
+
+    @Autowired
+    private ReactiveExchangeRateRepository reactiveRepository;
+
+    @Autowired
+    private ExchangeRateCache rateCache;
+
+    @MockBean
+    private BundesbankClient bundesbankClient;
+
+    @BeforeEach
+    void setup() {
+        repository.deleteAll();
+        repository.saveAll(List.of(
+                new ExchangeRate("USD", new BigDecimal("1.100000"), LocalDate.parse("2024-01-09")),
+                new ExchangeRate("USD", new BigDecimal("1.200000"), LocalDate.parse("2024-01-10")),
+                new ExchangeRate("GBP", new BigDecimal("0.860000"), LocalDate.parse("2024-01-10"))));
+        rateCache.reload();
+    }
+
+    @Test
+    void shouldReturnRatesByDate() throws Exception {
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/rates")
+                        .param("date", "2024-01-10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].currency").value("GBP"))
+                .andExpect(jsonPath("$[1].currency").value("USD"))
+                .andExpect(jsonPath("$[1].rate").value(1.2));
+    }
+
+    @Test
+    void shouldReturnNotFoundForDateWithoutRates() throws Exception {
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/rates")
+                        .param("date", "2023-01-01"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldRejectOversizedPage() throws Exception {
+
+        mockMvc.perform(get("/api/reactive/rates")
+                        .param("size", "501"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldConvertFromDatabaseWhenNotCached() throws Exception {
+
+        repository.save(new ExchangeRate("JPY", new BigDecimal("160.000000"), LocalDate.parse("2024-01-10")));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/conversions")
+                        .param("currency", "JPY")
+                        .param("amount", "320")
+                        .param("date", "2024-01-10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currency").value("JPY"))
+                .andExpect(jsonPath("$.convertedAmount").value(2.0))
+                .andExpect(jsonPath("$.rateDate").value("2024-01-10"));
+    }
+
+    @Test
+    void shouldStreamFullHistoryAsNdjson() throws Exception {
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/rates/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        assertThat(result.getResponse().getContentAsString().lines())
+                .containsExactly(
+                        "{\"currency\":\"GBP\",\"rate\":0.860000,\"rateDate\":\"2024-01-10\"}",
+                        "{\"currency\":\"USD\",\"rate\":1.100000,\"rateDate\":\"2024-01-09\"}",
+                        "{\"currency\":\"USD\",\"rate\":1.200000,\"rateDate\":\"2024-01-10\"}");
+    }
+
+    @Test
+    void streamAll_emitsRowsOnDemand() {
+
+        StepVerifier.create(reactiveRepository.streamAll(), 1)
+                .assertNext(rate -> assertThat(rate.getCurrency()).isEqualTo("GBP"))
+                .thenRequest(2)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+}
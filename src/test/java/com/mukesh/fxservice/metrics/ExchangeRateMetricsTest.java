@@ -0,0 +1,92 @@
+package com.mukesh.fxservice.metrics;
+
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.config.CurrencyProperties;
+import com.mukesh.fxservice.config.RateLookupProperties;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import com.mukesh.fxservice.service.ExchangeRateService;
+import com.mukesh.fxservice.service.api.CurrencyRefreshResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExchangeRateMetricsTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 10);
+
+    private SimpleMeterRegistry registry;
+    private ExchangeRateRepository repository;
+    private ExchangeRateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        repository = mock(ExchangeRateRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                new ExchangeRate("USD", new BigDecimal("1.097300"), DATE)
+        ));
+        cache = new ExchangeRateCache(repository);
+        cache.reload();
+    }
+
+    @Test
+    void convert_recordsTimerAndCacheHitsAndMisses() {
+        ExchangeRateService service = new ExchangeRateService(repository, new CurrencyProperties(), cache,
+                new RateLookupProperties(), new ExchangeRateMetrics(registry));
+        when(repository.findByCurrencyAndRateDate("USD", DATE.minusDays(1)))
+                .thenReturn(Optional.of(new ExchangeRate("USD", new BigDecimal("1.1"), DATE.minusDays(1))));
+
+        service.convert("USD", BigDecimal.TEN, DATE);
+        service.convert("USD", BigDecimal.TEN, DATE);
+        service.convert("USD", BigDecimal.TEN, DATE.minusDays(1));
+
+        assertThat(registry.get(ExchangeRateMetrics.CONVERSION).tag("type", "single").timer().count()).isEqualTo(3);
+        assertThat(registry.get(ExchangeRateMetrics.RATE_LOOKUPS).tag("result", "hit").counter().count()).isEqualTo(2);
+        assertThat(registry.get(ExchangeRateMetrics.RATE_LOOKUPS).tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void loaderMeters_areTaggedByCurrencyAndOutcome() {
+        ExchangeRateMetrics metrics = new ExchangeRateMetrics(registry);
+
+        metrics.recordFetch("USD", 1_000_000, true);
+        metrics.recordFetch("USD", 2_000_000, false);
+        metrics.recordPersist("USD", 500_000, 3);
+        metrics.recordPersist("USD", 500_000, 2);
+        metrics.recordRefresh(CurrencyRefreshResult.timedOut("GBP", Duration.ofSeconds(5)));
+
+        assertThat(registry.get(ExchangeRateMetrics.BUNDESBANK_FETCH)
+                .tags("currency", "USD", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get(ExchangeRateMetrics.BUNDESBANK_FETCH)
+                .tags("currency", "USD", "outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.get(ExchangeRateMetrics.LOADER_ROWS_INSERTED)
+                .tag("currency", "USD").counter().count()).isEqualTo(5);
+        assertThat(registry.get(ExchangeRateMetrics.LOADER_REFRESH)
+                .tags("currency", "GBP", "outcome", "timed_out").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void refreshLag_reportsDaysSinceNewestRateDate() {
+        CurrencyProperties currencies = new CurrencyProperties();
+        currencies.setSupportedCurrencies(List.of("USD", "GBP"));
+        Clock clock = Clock.fixed(DATE.plusDays(3).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+        new RefreshLagMetrics(cache, currencies, clock).bindTo(registry);
+
+        assertThat(registry.get(RefreshLagMetrics.RATES_LAG).tag("currency", "USD").gauge().value()).isEqualTo(3.0);
+        assertThat(registry.get(RefreshLagMetrics.RATES_LAG).tag("currency", "GBP").gauge().value()).isNaN();
+    }
+}
@@ -0,0 +1,135 @@
+package com.mukesh.fxservice.ratelimit;
+
+import com.mukesh.fxservice.config.RateLimitProperties;
+import com.mukesh.fxservice.exception.RateLimitExceededException;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.getDefaultQuota().setRequests(3);
+        properties.getEndpoints().put("conversions", quota("/api/conversions/**", 2));
+        properties.getEndpoints().put("batch", quota("/api/conversions/batch", 1));
+    }
+
+    @Test
+    void chargesTheMostSpecificQuotaPerClient() {
+        ClientRateLimiter limiter = limiter();
+
+        limiter.acquire("/api/conversions/batch", "a");
+        assertThatThrownBy(() -> limiter.acquire("/api/conversions/batch", "a"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .hasMessageContaining("batch");
+
+        // the conversions quota is separate from the batch one, and client b has its own buckets
+        limiter.acquire("/api/conversions", "a");
+        limiter.acquire("/api/conversions/cross", "a");
+        assertThatThrownBy(() -> limiter.acquire("/api/conversions", "a"))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThatCode(() -> limiter.acquire("/api/conversions/batch", "b")).doesNotThrowAnyException();
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("/api/rates", "a");
+        }
+        assertThatThrownBy(() -> limiter.acquire("/api/currencies", "a"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(ex -> assertThat(((RateLimitExceededException) ex).getRetryAfter())
+                        .isEqualTo(Duration.ofNanos(333_333_333)));
+
+        assertThat(registry.get(ExchangeRateMetrics.RATE_LIMITED).tag("quota", "batch").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get(ExchangeRateMetrics.RATE_LIMITED).tag("quota", ClientRateLimiter.DEFAULT_QUOTA)
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsRefilledBucketsOnceTooManyClientsAreTracked() {
+        properties.setMaxTrackedClients(3);
+        ClientRateLimiter limiter = limiter();
+
+        limiter.acquire("/api/rates", "a");
+        limiter.acquire("/api/rates", "b");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("/api/rates", "noisy");
+        }
+
+        limiter.acquire("/api/rates", "c");
+
+        assertThat(limiter.trackedBuckets()).isEqualTo(2);
+        assertThatThrownBy(() -> limiter.acquire("/api/rates", "noisy"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void dropsBucketsClosestToRefilledWhenNoneIsIdle() {
+        properties.setMaxTrackedClients(3);
+        ClientRateLimiter limiter = limiter();
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("/api/rates", "noisy");
+        }
+        limiter.acquire("/api/rates", "b");
+        limiter.acquire("/api/rates", "c");
+
+        // none of the buckets is idle, yet the map stays bounded and keeps the drained one
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire("/api/rates", "client-" + i);
+            assertThat(limiter.trackedBuckets()).isLessThanOrEqualTo(3);
+            assertThatThrownBy(() -> limiter.acquire("/api/rates", "noisy"))
+                    .isInstanceOf(RateLimitExceededException.class);
+        }
+    }
+
+    @Test
+    void chargesSeveralPermitsAtOnce() {
+        ClientRateLimiter limiter = limiter();
+
+        limiter.acquire("/api/conversions", "a");
+        assertThatThrownBy(() -> limiter.acquire("/api/conversions", "a", 2))
+                .isInstanceOf(RateLimitExceededException.class);
+        limiter.acquire("/api/rates", "a", 3);
+        assertThatThrownBy(() -> limiter.acquire("/api/rates", "a"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void disabledLimiterLetsEverythingThrough() {
+        properties.setEnabled(false);
+        ClientRateLimiter limiter = limiter();
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire("/api/conversions/batch", "a");
+        }
+        assertThat(limiter.trackedBuckets()).isZero();
+    }
+
+    private ClientRateLimiter limiter() {
+        return new ClientRateLimiter(properties, new ExchangeRateMetrics(registry), clock::get);
+    }
+
+    private static RateLimitProperties.EndpointQuota quota(String path, int requests) {
+        RateLimitProperties.EndpointQuota quota = new RateLimitProperties.EndpointQuota();
+        quota.setPath(path);
+        quota.setRequests(requests);
+        quota.setPer(Duration.ofSeconds(1));
+        return quota;
+    }
+}
@@ -0,0 +1,69 @@
+package com.mukesh.fxservice.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstThenRefillsOneTokenPerInterval() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(4, Duration.ofSeconds(1), now);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.tryAcquire(now)).isZero();
+        }
+        assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND / 4);
+
+        assertThat(bucket.tryAcquire(now + SECOND / 4)).isZero();
+        assertThat(bucket.tryAcquire(now + SECOND / 4)).isEqualTo(SECOND / 4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.tryAcquire(now + 2 * SECOND)).isZero();
+        }
+        assertThat(bucket.tryAcquire(now + 2 * SECOND)).isPositive();
+    }
+
+    @Test
+    void chargesSeveralPermitsAtOnceButNeverMoreThanAFullBucket() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(4, Duration.ofSeconds(1), now);
+
+        assertThat(bucket.tryAcquire(now, 3)).isZero();
+        assertThat(bucket.tryAcquire(now, 2)).isEqualTo(SECOND / 4);
+        assertThat(bucket.tryAcquire(now + SECOND / 4, 2)).isZero();
+
+        // ten permits cost the whole bucket, once it has refilled
+        assertThat(bucket.tryAcquire(now + SECOND, 10)).isEqualTo(SECOND / 4);
+        assertThat(bucket.tryAcquire(now + 5 * SECOND / 4, 10)).isZero();
+        assertThat(bucket.tryAcquire(now + 5 * SECOND / 4)).isEqualTo(SECOND / 4);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedTheBurst() throws InterruptedException {
+        long now = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(100, Duration.ofHours(1), now);
+        AtomicInteger granted = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1_000; i++) {
+                executor.execute(() -> {
+                    if (bucket.tryAcquire(now) == 0) {
+                        granted.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertThat(granted).hasValue(100);
+    }
+}
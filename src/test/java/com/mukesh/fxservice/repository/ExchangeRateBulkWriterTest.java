@@ -0,0 +1,52 @@
+package com.mukesh.fxservice.repository;
+
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.external.impl.BundesbankClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ExchangeRateBulkWriterTest {
+
+    @Autowired
+    private ExchangeRateBulkWriter bulkWriter;
+
+    @Autowired
+    private ExchangeRateRepository repository;
+
+    @MockBean
+    private BundesbankClient bundesbankClient;
+
+    @BeforeEach
+    void setup() {
+        repository.deleteAll();
+        repository.save(new ExchangeRate("USD", new BigDecimal("1.100000"), LocalDate.parse("2024-01-09")));
+    }
+
+    @Test
+    void insertMissing_insertsOnlyNewDatesAndIsIdempotent() {
+        Map<LocalDate, BigDecimal> rates = new LinkedHashMap<>();
+        rates.put(LocalDate.parse("2024-01-09"), new BigDecimal("9.999999"));
+        rates.put(LocalDate.parse("2024-01-10"), new BigDecimal("1.200000"));
+        rates.put(LocalDate.parse("2024-01-11"), new BigDecimal("1.300000"));
+
+        assertThat(bulkWriter.insertMissing("USD", rates)).isEqualTo(2);
+        assertThat(bulkWriter.insertMissing("USD", rates)).isZero();
+
+        assertThat(repository.count()).isEqualTo(3);
+        assertThat(repository.findByCurrencyAndRateDate("USD", LocalDate.parse("2024-01-09")))
+                .get()
+                .extracting(ExchangeRate::getRate)
+                .isEqualTo(new BigDecimal("1.100000"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.mukesh.fxservice.repository;
+
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.external.impl.BundesbankClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class ExchangeRateRepositoryTest {
+
+    @Autowired
+    private ExchangeRateRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private BundesbankClient bundesbankClient;
+
+    @BeforeEach
+    void setup() {
+        repository.deleteAll();
+        repository.saveAll(List.of(
+                new ExchangeRate("USD", new BigDecimal("1.100000"), LocalDate.parse("2024-01-09")),
+                new ExchangeRate("USD", new BigDecimal("1.200000"), LocalDate.parse("2024-01-10")),
+                new ExchangeRate("GBP", new BigDecimal("0.860000"), LocalDate.parse("2024-01-10")),
+                new ExchangeRate("JPY", new BigDecimal("158.950000"), LocalDate.parse("2024-01-10"))));
+    }
+
+    @Test
+    void findPageAfter_continuesStrictlyAfterTheCursorInKeyOrder() {
+        Slice<ExchangeRate> page = repository.findPageAfter("GBP", LocalDate.parse("2024-01-10"), PageRequest.ofSize(2));
+
+        assertThat(page.getContent())
+                .extracting(ExchangeRate::getCurrency, ExchangeRate::getRateDate)
+                .containsExactly(
+                        tuple("JPY", LocalDate.parse("2024-01-10")),
+                        tuple("USD", LocalDate.parse("2024-01-09")));
+        assertThat(page.hasNext()).isTrue();
+
+        assertThat(repository.findPageAfter("USD", LocalDate.parse("2024-01-09"), PageRequest.ofSize(2)).getContent())
+                .extracting(ExchangeRate::getRateDate)
+                .containsExactly(LocalDate.parse("2024-01-10"));
+    }
+
+    @Test
+    void keysetPredicateSeeksTheCurrencyDateIndex() {
+        String plan = jdbcTemplate.queryForObject("""
+                EXPLAIN SELECT * FROM exchange_rates
+                WHERE (currency, rate_date) > ('GBP', DATE '2024-01-10') AND currency >= 'GBP'
+                ORDER BY currency, rate_date
+                """, String.class);
+
+        assertThat(plan).doesNotContain("tableScan");
+    }
+}
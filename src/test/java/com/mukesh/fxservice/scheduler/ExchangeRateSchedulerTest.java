@@ -1,20 +1,37 @@
 package com.mukesh.fxservice.scheduler;
 
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
 import com.mukesh.fxservice.service.api.ExchangeRateLoader;
 import org.junit.jupiter.api.Test;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 class ExchangeRateSchedulerTest {
 
     @Test
     void refreshRates_invokesLoader() {
         ExchangeRateLoader loader = mock(ExchangeRateLoader.class);
-        ExchangeRateScheduler scheduler = new ExchangeRateScheduler(loader);
+        ClusterRefreshCoordinator coordinator = mock(ClusterRefreshCoordinator.class);
+        when(coordinator.tryAcquireLease()).thenReturn(true);
+        ExchangeRateScheduler scheduler = new ExchangeRateScheduler(loader, ExchangeRateMetrics.noop(), coordinator);
 
         scheduler.refreshRates();
 
         verify(loader).fetchAndLoadAllCurrencyRates();
     }
+
+    @Test
+    void refreshRates_skipsWhenAnotherNodeHoldsTheLease() {
+        ExchangeRateLoader loader = mock(ExchangeRateLoader.class);
+        ClusterRefreshCoordinator coordinator = mock(ClusterRefreshCoordinator.class);
+        when(coordinator.tryAcquireLease()).thenReturn(false);
+        ExchangeRateScheduler scheduler = new ExchangeRateScheduler(loader, ExchangeRateMetrics.noop(), coordinator);
+
+        scheduler.refreshRates();
+
+        verifyNoInteractions(loader);
+    }
 }
@@ -0,0 +1,50 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.exception.ExchangeRateParseException;
+import com.mukesh.fxservice.service.impl.BundesbankCsvParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BundesbankCsvParserTest {
+
+    private static final String CSV = """
+            ,BBEX3.D.USD.EUR.BB.AC.000,BBEX3.D.USD.EUR.BB.AC.000_FLAGS
+            unit,USD,
+            2024-01-08,1.0950,
+            2024-01-09,1.0940,
+            2024-01-10,.,No value available
+            2024-01-11,1.0987,
+            """;
+
+    @Test
+    void parse_skipsMetadataAndMissingValuesAndEmitsBoundedChunks() {
+        List<Map<LocalDate, BigDecimal>> chunks = new ArrayList<>();
+
+        int stored = BundesbankCsvParser.parse("USD", new StringReader(CSV), 2, chunk -> {
+            chunks.add(Map.copyOf(chunk));
+            return chunk.size();
+        });
+
+        assertThat(stored).isEqualTo(3);
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).containsOnlyKeys(LocalDate.parse("2024-01-08"), LocalDate.parse("2024-01-09"));
+        assertThat(chunks.get(1)).containsEntry(LocalDate.parse("2024-01-11"), new BigDecimal("1.0987"));
+    }
+
+    @Test
+    void parse_malformedCsv_throwsParseException() {
+        String malformed = "2024-01-08,\"1.0950\"x,\n";
+
+        assertThrows(ExchangeRateParseException.class, () ->
+                BundesbankCsvParser.parse("USD", new StringReader(malformed), 10, chunk -> chunk.size()));
+    }
+}
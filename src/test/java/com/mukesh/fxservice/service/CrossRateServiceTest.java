@@ -0,0 +1,137 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.config.CurrencyProperties;
+import com.mukesh.fxservice.config.RateLookupProperties;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.dto.CrossConversionResponse;
+import com.mukesh.fxservice.dto.CrossRateMatrixResponse;
+import com.mukesh.fxservice.exception.RateNotFoundException;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CrossRateServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 10);
+
+    private ExchangeRateRepository repository;
+    private ExchangeRateCache cache;
+    private CrossRateService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ExchangeRateRepository.class);
+        cache = new ExchangeRateCache(repository);
+        ExchangeRateService exchangeRateService = new ExchangeRateService(repository,
+                mock(CurrencyProperties.class), cache, new RateLookupProperties(), ExchangeRateMetrics.noop());
+        service = new CrossRateService(exchangeRateService, repository, cache, ExchangeRateMetrics.noop());
+
+        when(repository.findAll()).thenReturn(List.of(
+                new ExchangeRate("USD", new BigDecimal("1.097300"), DATE),
+                new ExchangeRate("JPY", new BigDecimal("158.950000"), DATE)
+        ));
+        cache.reload();
+    }
+
+    @Test
+    void convert_triangulatesThroughEurWithSingleRounding() {
+        CrossConversionResponse response =
+                service.convert("usd", "JPY", new BigDecimal("100"), DATE);
+
+        BigDecimal expected = new BigDecimal("100").multiply(new BigDecimal("158.950000"))
+                .divide(new BigDecimal("1.097300"), 6, RoundingMode.HALF_UP);
+
+        assertThat(response.from()).isEqualTo("USD");
+        assertThat(response.to()).isEqualTo("JPY");
+        assertThat(response.convertedAmount()).isEqualByComparingTo(expected);
+        assertThat(response.rateDate()).isEqualTo(DATE);
+    }
+
+    @Test
+    void convert_eurLegUsesUnitRate() {
+        CrossConversionResponse response =
+                service.convert("EUR", "USD", new BigDecimal("10"), DATE);
+
+        assertThat(response.convertedAmount()).isEqualByComparingTo("10.973000");
+        assertThat(response.rate()).isEqualByComparingTo("1.0973");
+    }
+
+    @Test
+    void convert_missingLeg_throwsNotFound() {
+        when(repository.findByCurrencyAndRateDate("GBP", DATE)).thenReturn(Optional.empty());
+
+        assertThrows(RateNotFoundException.class,
+                () -> service.convert("USD", "GBP", BigDecimal.ONE, DATE));
+    }
+
+    @Test
+    void getCrossRates_buildsMatrixIncludingEur() {
+        CrossRateMatrixResponse matrix = service.getCrossRates(DATE);
+
+        assertThat(matrix.rates().keySet()).containsExactly("EUR", "JPY", "USD");
+        assertThat(matrix.rates().get("EUR").get("USD")).isEqualByComparingTo("1.0973");
+        assertThat(matrix.rates().get("USD").get("USD")).isEqualByComparingTo("1");
+        assertThat(matrix.rates().get("USD").get("JPY"))
+                .isEqualByComparingTo(new BigDecimal("158.95")
+                        .divide(new BigDecimal("1.0973"), 10, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    void getCrossRates_isMemoizedUntilNextReload() {
+        CrossRateMatrixResponse first = service.getCrossRates(DATE);
+
+        assertThat(service.getCrossRates(DATE)).isSameAs(first);
+
+        cache.reload();
+
+        assertThat(service.getCrossRates(DATE)).isNotSameAs(first);
+    }
+
+    @Test
+    void getCrossRates_keepsRecentlyUsedDatesWhenTheCacheIsFull() {
+        List<ExchangeRate> history = new ArrayList<>();
+        for (int i = 0; i <= CrossRateService.MAX_CACHED_MATRICES; i++) {
+            history.add(new ExchangeRate("USD", new BigDecimal("1.097300"), DATE.minusDays(i)));
+        }
+        when(repository.findAll()).thenReturn(history);
+        cache.reload();
+
+        CrossRateMatrixResponse hot = service.getCrossRates(DATE);
+        CrossRateMatrixResponse oldest = service.getCrossRates(DATE.minusDays(1));
+        for (int i = 2; i <= CrossRateService.MAX_CACHED_MATRICES; i++) {
+            service.getCrossRates(DATE.minusDays(i));
+            assertThat(service.getCrossRates(DATE)).isSameAs(hot);
+        }
+
+        assertThat(service.getCrossRates(DATE.minusDays(1))).isNotSameAs(oldest);
+    }
+
+    @Test
+    void getCrossRates_notCached_fallsBackToRepository() {
+        LocalDate other = DATE.minusDays(1);
+        when(repository.findByRateDate(any(LocalDate.class), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        assertThrows(RateNotFoundException.class, () -> service.getCrossRates(other));
+        verify(repository, never()).findByCurrencyAndRateDate(any(), any());
+    }
+}
@@ -0,0 +1,224 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.config.CurrencyProperties;
+import com.mukesh.fxservice.config.LoaderProperties;
+import com.mukesh.fxservice.external.impl.BundesbankClient;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
+import com.mukesh.fxservice.repository.ExchangeRateBulkWriter;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import com.mukesh.fxservice.service.api.CurrencyRefreshResult;
+import com.mukesh.fxservice.service.api.ExchangeRatesLoadedEvent;
+import com.mukesh.fxservice.service.api.RefreshReport;
+import com.mukesh.fxservice.service.impl.ExchangeRateLoaderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExchangeRateLoaderServiceParallelTest {
+
+    private static final String CSV = "TIME_PERIOD,OBS_VALUE\n2023-01-02,1.2\n";
+
+    private BundesbankClient client;
+    private ExchangeRateRepository repository;
+    private ExchangeRateBulkWriter bulkWriter;
+    private ApplicationEventPublisher eventPublisher;
+    private LoaderProperties loaderProperties;
+    private ExchangeRateLoaderService loader;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(BundesbankClient.class);
+        repository = mock(ExchangeRateRepository.class);
+        bulkWriter = mock(ExchangeRateBulkWriter.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        CurrencyProperties currencyProperties = new CurrencyProperties();
+        currencyProperties.setSupportedCurrencies(List.of("USD", "GBP", "JPY"));
+
+        loaderProperties = new LoaderProperties();
+        loaderProperties.setParallel(true);
+        loaderProperties.setMaxConcurrency(2);
+
+        loader = new ExchangeRateLoaderService(client, repository, bulkWriter,
+                currencyProperties, loaderProperties, eventPublisher, ExchangeRateMetrics.noop());
+    }
+
+    @Test
+    void fetchAll_reportsEachCurrencyAndPublishesOnce() {
+        when(client.fetchExchangeRatesCsv("USD")).thenReturn(CSV);
+        when(client.fetchExchangeRatesCsv("GBP")).thenThrow(new RestClientException("down"));
+        when(client.fetchExchangeRatesCsv("JPY")).thenReturn(CSV);
+
+        RefreshReport report = loader.fetchAndLoadAllCurrencyRates();
+
+        assertThat(report.results())
+                .extracting(CurrencyRefreshResult::currency, CurrencyRefreshResult::status)
+                .containsExactly(
+                        tuple("USD", CurrencyRefreshResult.Status.SUCCESS),
+                        tuple("GBP", CurrencyRefreshResult.Status.FAILED),
+                        tuple("JPY", CurrencyRefreshResult.Status.SUCCESS));
+        assertThat(report.insertedRows()).isEqualTo(2);
+        verify(eventPublisher).publishEvent(any(ExchangeRatesLoadedEvent.class));
+    }
+
+    @Test
+    void fetchAll_slowCurrencyIsReportedAsTimedOutWithoutDelayingOthers() {
+        loaderProperties.setDeadline(Duration.ofMillis(300));
+        when(client.fetchExchangeRatesCsv("USD")).thenReturn(CSV);
+        when(client.fetchExchangeRatesCsv("GBP")).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return CSV;
+        });
+        when(client.fetchExchangeRatesCsv("JPY")).thenReturn(CSV);
+
+        long started = System.nanoTime();
+        RefreshReport report = loader.fetchAndLoadAllCurrencyRates();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(1_500));
+        assertThat(report.count(CurrencyRefreshResult.Status.SUCCESS)).isEqualTo(2);
+        assertThat(report.count(CurrencyRefreshResult.Status.TIMED_OUT)).isEqualTo(1);
+    }
+
+    @Test
+    void fetchAll_rowsStoredAfterTheDeadlineArePublishedSeparately() {
+        loaderProperties.setDeadline(Duration.ofMillis(300));
+        when(client.fetchExchangeRatesCsv("USD")).thenReturn(CSV);
+        when(client.fetchExchangeRatesCsv("GBP")).thenAnswer(invocation -> {
+            Thread.sleep(600);
+            return CSV;
+        });
+        when(client.fetchExchangeRatesCsv("JPY")).thenReturn(CSV);
+
+        RefreshReport report = loader.fetchAndLoadAllCurrencyRates();
+        assertThat(report.count(CurrencyRefreshResult.Status.TIMED_OUT)).isEqualTo(1);
+
+        ArgumentCaptor<ExchangeRatesLoadedEvent> events = ArgumentCaptor.forClass(ExchangeRatesLoadedEvent.class);
+        verify(eventPublisher, timeout(5_000).times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(ExchangeRatesLoadedEvent::currencies, ExchangeRatesLoadedEvent::insertedRows)
+                .containsExactly(tuple(Set.of("JPY", "USD"), 2), tuple(Set.of("GBP"), 1));
+    }
+
+    @Test
+    void fetchAll_databaseFailureFailsOnlyThatCurrencyInEitherMode() {
+        loaderProperties.setBulkWrite(true);
+        when(client.fetchExchangeRatesCsv(any())).thenReturn(CSV);
+        when(bulkWriter.insertMissing(eq("USD"), any())).thenReturn(1);
+        when(bulkWriter.insertMissing(eq("GBP"), any())).thenThrow(new DataAccessResourceFailureException("down"));
+        when(bulkWriter.insertMissing(eq("JPY"), any())).thenReturn(1);
+
+        for (boolean parallel : new boolean[]{false, true}) {
+            loaderProperties.setParallel(parallel);
+
+            RefreshReport report = loader.fetchAndLoadAllCurrencyRates();
+
+            assertThat(report.results())
+                    .extracting(CurrencyRefreshResult::currency, CurrencyRefreshResult::status)
+                    .containsExactly(
+                            tuple("USD", CurrencyRefreshResult.Status.SUCCESS),
+                            tuple("GBP", CurrencyRefreshResult.Status.FAILED),
+                            tuple("JPY", CurrencyRefreshResult.Status.SUCCESS));
+            assertThat(report.results().get(1).error()).isEqualTo("down");
+        }
+    }
+
+    @Test
+    void fetchAll_unexpectedErrorFailsOnlyThatCurrencyInEitherMode() {
+        when(client.fetchExchangeRatesCsv("USD")).thenReturn(CSV);
+        when(client.fetchExchangeRatesCsv("GBP")).thenThrow(new IllegalStateException("boom"));
+        when(client.fetchExchangeRatesCsv("JPY")).thenReturn(CSV);
+
+        for (boolean parallel : new boolean[]{false, true}) {
+            loaderProperties.setParallel(parallel);
+
+            RefreshReport report = loader.fetchAndLoadAllCurrencyRates();
+
+            assertThat(report.results())
+                    .extracting(CurrencyRefreshResult::currency, CurrencyRefreshResult::status)
+                    .containsExactly(
+                            tuple("USD", CurrencyRefreshResult.Status.SUCCESS),
+                            tuple("GBP", CurrencyRefreshResult.Status.FAILED),
+                            tuple("JPY", CurrencyRefreshResult.Status.SUCCESS));
+            assertThat(report.results().get(1).error()).isEqualTo("boom");
+        }
+        verify(eventPublisher, times(2)).publishEvent(new ExchangeRatesLoadedEvent(Set.of("JPY", "USD"), 2));
+    }
+
+    @Test
+    void fetchForCurrency_publishesTheNormalisedCurrency() {
+        when(client.fetchExchangeRatesCsv("USD")).thenReturn(CSV);
+
+        int stored = loader.fetchAndLoadRatesForCurrency(" usd");
+
+        assertThat(stored).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new ExchangeRatesLoadedEvent(Set.of("USD"), 1));
+    }
+
+    @Test
+    void streamingRefresh_persistsParsedChunksWhileReading() {
+        loaderProperties.setStreaming(true);
+        loaderProperties.setChunkSize(1);
+        when(client.streamExchangeRatesCsv(eq("USD"), isNull(), any())).thenAnswer(invocation -> {
+            BundesbankClient.ReaderCallback<Integer> handler = invocation.getArgument(2);
+            return handler.handle(new StringReader("TIME_PERIOD,OBS_VALUE\n2023-01-02,1.2\n2023-01-03,1.3\n"));
+        });
+
+        int stored = loader.fetchAndLoadRatesForCurrency("USD");
+
+        assertThat(stored).isEqualTo(2);
+        verify(repository, times(2)).saveAll(any());
+        verify(client, never()).fetchExchangeRatesCsv("USD");
+    }
+
+    @Test
+    void streamingRefresh_publishesChunksStoredBeforeAFailure() {
+        loaderProperties.setStreaming(true);
+        loaderProperties.setChunkSize(1);
+        when(client.streamExchangeRatesCsv(eq("USD"), isNull(), any())).thenAnswer(invocation -> {
+            BundesbankClient.ReaderCallback<Integer> handler = invocation.getArgument(2);
+            return handler.handle(new StringReader("TIME_PERIOD,OBS_VALUE\n2023-01-02,1.2\n2023-01-03,1.3\n"));
+        });
+        when(repository.saveAll(any()))
+                .thenReturn(List.of())
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThatThrownBy(() -> loader.fetchAndLoadRatesForCurrency("USD"))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        verify(eventPublisher).publishEvent(new ExchangeRatesLoadedEvent(Set.of("USD"), 1));
+    }
+
+    @Test
+    void bulkWrite_skipsDedupQueryAndJpaSave() {
+        loaderProperties.setBulkWrite(true);
+        when(client.fetchExchangeRatesCsv("USD")).thenReturn(CSV);
+        when(bulkWriter.insertMissing(eq("USD"), any())).thenReturn(1);
+
+        int stored = loader.fetchAndLoadRatesForCurrency("USD");
+
+        assertThat(stored).isEqualTo(1);
+        verify(repository, never()).findByCurrencyAndRateDateIn(any(), any());
+        verify(repository, never()).saveAll(any());
+    }
+}
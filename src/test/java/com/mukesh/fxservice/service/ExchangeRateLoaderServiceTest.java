@@ -3,6 +3,7 @@ package com.mukesh.fxservice.service;
 import com.mukesh.fxservice.domain.ExchangeRate;
 import com.mukesh.fxservice.external.impl.BundesbankClient;
 import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import com.mukesh.fxservice.service.api.RefreshMode;
 import com.mukesh.fxservice.service.impl.ExchangeRateLoaderService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.StreamSupport;
 
 import static org.mockito.ArgumentMatchers.argThat;
@@ -47,4 +49,31 @@ public class ExchangeRateLoaderServiceTest {
                                 .anyMatch(rate -> rate.getRateDate().equals(LocalDate.parse("2023-01-03")))
         ));
     }
+
+    @Test
+    void incrementalRefresh_fetchesFromLatestStoredDate() {
+        LocalDate latest = LocalDate.parse("2023-01-02");
+        when(repository.findLatestRateDate("USD")).thenReturn(Optional.of(latest));
+        when(client.fetchExchangeRatesCsv("USD", latest))
+                .thenReturn("TIME_PERIOD,OBS_VALUE\n2023-01-02,1.2\n2023-01-03,1.3\n");
+        when(repository.findByCurrencyAndRateDateIn(eq("USD"), any()))
+                .thenReturn(List.of(new ExchangeRate("USD", BigDecimal.valueOf(1.2), latest)));
+
+        loader.fetchAndLoadRatesForCurrency("USD", RefreshMode.INCREMENTAL);
+
+        verify(client, never()).fetchExchangeRatesCsv("USD");
+        verify(repository, times(1)).saveAll(argThat(saved ->
+                StreamSupport.stream(saved.spliterator(), false).count() == 1));
+    }
+
+    @Test
+    void fullRefresh_ignoresLatestStoredDate() {
+        when(repository.findLatestRateDate("USD")).thenReturn(Optional.of(LocalDate.parse("2023-01-02")));
+        when(client.fetchExchangeRatesCsv("USD")).thenReturn("TIME_PERIOD,OBS_VALUE\n2023-01-01,1.1\n");
+
+        loader.fetchAndLoadRatesForCurrency("USD", RefreshMode.FULL);
+
+        verify(client, times(1)).fetchExchangeRatesCsv("USD");
+        verify(client, never()).fetchExchangeRatesCsv(eq("USD"), any());
+    }
 }
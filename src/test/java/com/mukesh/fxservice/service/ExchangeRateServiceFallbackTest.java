@@ -1,17 +1,30 @@
 package com.mukesh.fxservice.service;
 
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.dto.BatchConversionResult;
+import com.mukesh.fxservice.dto.ConversionRequest;
 import com.mukesh.fxservice.exception.RateNotFoundException;
 import com.mukesh.fxservice.config.CurrencyProperties;
+import com.mukesh.fxservice.config.RateLookupProperties;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
 import com.mukesh.fxservice.repository.ExchangeRateRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ExchangeRateServiceFallbackTest {
@@ -19,12 +32,15 @@ class ExchangeRateServiceFallbackTest {
     private ExchangeRateRepository repository;
     private ExchangeRateService service;
     private CurrencyProperties currencyProperties;
+    private RateLookupProperties lookupProperties;
 
     @BeforeEach
     void setUp() {
         repository = mock(ExchangeRateRepository.class);
         currencyProperties = mock(CurrencyProperties.class);
-        service = new ExchangeRateService(repository, currencyProperties);
+        lookupProperties = new RateLookupProperties();
+        service = new ExchangeRateService(repository, currencyProperties,
+                new ExchangeRateCache(repository), lookupProperties, ExchangeRateMetrics.noop());
     }
 
     @Test
@@ -36,4 +52,72 @@ class ExchangeRateServiceFallbackTest {
 
         assertThrows(RateNotFoundException.class, () -> service.getRate("USD", queryDate));
     }
+
+    @Test
+    void getRate_fallbackEnabled_returnsPreviousBusinessDayFromDatabase() {
+        lookupProperties.setFallbackToPreviousDate(true);
+        LocalDate sunday = LocalDate.parse("2024-01-14");
+        LocalDate friday = LocalDate.parse("2024-01-12");
+
+        when(repository.findTopByCurrencyAndRateDateLessThanEqualOrderByRateDateDesc(eq("USD"), eq(sunday)))
+                .thenReturn(Optional.of(new ExchangeRate("USD", new BigDecimal("1.095000"), friday)));
+
+        ExchangeRate rate = service.getRate("USD", sunday);
+
+        assertThat(rate.getRateDate()).isEqualTo(friday);
+    }
+
+    @Test
+    void getRate_fallbackEnabled_servesFloorFromCache() {
+        lookupProperties.setFallbackToPreviousDate(true);
+        LocalDate friday = LocalDate.parse("2024-01-12");
+        when(repository.findAll()).thenReturn(List.of(new ExchangeRate("USD", new BigDecimal("1.095000"), friday)));
+        ExchangeRateCache cache = new ExchangeRateCache(repository);
+        cache.reload();
+        service = new ExchangeRateService(repository, currencyProperties, cache, lookupProperties,
+                ExchangeRateMetrics.noop());
+
+        ExchangeRate rate = service.getRate("USD", LocalDate.parse("2024-01-14"));
+
+        assertThat(rate.getRateDate()).isEqualTo(friday);
+        assertThat(rate.getRate()).isEqualTo(new BigDecimal("1.095000"));
+    }
+
+    @Test
+    void convertBatch_fallbackEnabled_resolvesMissesWithOneWindowedQueryPerCurrency() {
+        lookupProperties.setFallbackToPreviousDate(true);
+        lookupProperties.setMaxLookbackDays(3);
+        LocalDate friday = LocalDate.parse("2024-01-12");
+        LocalDate nextFriday = LocalDate.parse("2024-01-19");
+
+        when(repository.findByCurrencyAndRateDateBetweenOrderByRateDateAsc(
+                "USD", LocalDate.parse("2024-01-10"), LocalDate.parse("2024-01-27")))
+                .thenReturn(List.of(
+                        new ExchangeRate("USD", new BigDecimal("1.095000"), friday),
+                        new ExchangeRate("USD", new BigDecimal("1.088000"), nextFriday)));
+
+        List<BatchConversionResult> results = service.convertBatch(List.of(
+                new ConversionRequest("USD", new BigDecimal("100"), LocalDate.parse("2024-01-13")),
+                new ConversionRequest("USD", new BigDecimal("100"), LocalDate.parse("2024-01-21")),
+                // more than three days after the latest rate
+                new ConversionRequest("USD", new BigDecimal("100"), LocalDate.parse("2024-01-27"))));
+
+        assertThat(results.get(0).conversion().rateDate()).isEqualTo(friday);
+        assertThat(results.get(1).conversion().rateDate()).isEqualTo(nextFriday);
+        assertThat(results.get(2).error()).isNotNull();
+        verify(repository, times(1)).findByCurrencyAndRateDateBetweenOrderByRateDateAsc(any(), any(), any());
+        verify(repository, never()).findTopByCurrencyAndRateDateLessThanEqualOrderByRateDateDesc(any(), any());
+    }
+
+    @Test
+    void getRate_fallbackEnabled_respectsMaxLookback() {
+        lookupProperties.setFallbackToPreviousDate(true);
+        lookupProperties.setMaxLookbackDays(3);
+        LocalDate queryDate = LocalDate.parse("2024-01-20");
+
+        when(repository.findTopByCurrencyAndRateDateLessThanEqualOrderByRateDateDesc(eq("USD"), eq(queryDate)))
+                .thenReturn(Optional.of(new ExchangeRate("USD", BigDecimal.ONE, LocalDate.parse("2024-01-12"))));
+
+        assertThrows(RateNotFoundException.class, () -> service.getRate("USD", queryDate));
+    }
 }
@@ -1,10 +1,15 @@
 package com.mukesh.fxservice.service;
 
+import com.mukesh.fxservice.cache.ExchangeRateCache;
 import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.dto.BatchConversionResult;
+import com.mukesh.fxservice.dto.ConversionRequest;
 import com.mukesh.fxservice.dto.ConversionResponse;
 import com.mukesh.fxservice.exception.RateNotFoundException;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
 import com.mukesh.fxservice.repository.ExchangeRateRepository;
 import com.mukesh.fxservice.config.CurrencyProperties;
+import com.mukesh.fxservice.config.RateLookupProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
@@ -12,6 +17,7 @@ import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,6 +25,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ExchangeRateServiceUnitTest {
@@ -26,12 +35,15 @@ class ExchangeRateServiceUnitTest {
     private ExchangeRateRepository repository;
     private ExchangeRateService service;
     private CurrencyProperties currencyProperties;
+    private RateLookupProperties lookupProperties;
 
     @BeforeEach
     void setUp() {
         repository = mock(ExchangeRateRepository.class);
         currencyProperties = mock(CurrencyProperties.class);
-        service = new ExchangeRateService(repository, currencyProperties);
+        lookupProperties = new RateLookupProperties();
+        service = new ExchangeRateService(repository, currencyProperties,
+                new ExchangeRateCache(repository), lookupProperties, ExchangeRateMetrics.noop());
     }
 
     @Test
@@ -52,6 +64,23 @@ class ExchangeRateServiceUnitTest {
         assertThrows(IllegalStateException.class, () -> service.convert("USD", BigDecimal.valueOf(10), LocalDate.parse("2024-01-01")));
     }
 
+    @Test
+    void hasCompleteRates_onlyWhenEverySupportedCurrencyHasTheDate() {
+        ExchangeRateCache cache = new ExchangeRateCache(repository);
+        service = new ExchangeRateService(repository, currencyProperties, cache, lookupProperties,
+                ExchangeRateMetrics.noop());
+        when(currencyProperties.getSupportedCurrencies()).thenReturn(List.of("USD", "GBP"));
+        when(repository.findAll()).thenReturn(List.of(
+                new ExchangeRate("USD", new BigDecimal("1.100000"), LocalDate.parse("2024-01-10")),
+                new ExchangeRate("GBP", new BigDecimal("0.860000"), LocalDate.parse("2024-01-10")),
+                new ExchangeRate("USD", new BigDecimal("1.090000"), LocalDate.parse("2024-01-11"))));
+        cache.reload();
+
+        assertThat(service.hasCompleteRates(LocalDate.parse("2024-01-10"))).isTrue();
+        assertThat(service.hasCompleteRates(LocalDate.parse("2024-01-11"))).isFalse();
+        assertThat(service.hasCompleteRates(LocalDate.parse("2024-01-13"))).isFalse();
+    }
+
     @Test
     void getAllRates_whenEmpty_throwsNotFound() {
         when(repository.findAll(PageRequest.of(0, 10))).thenReturn(Page.empty());
@@ -66,4 +95,29 @@ class ExchangeRateServiceUnitTest {
 
         assertThrows(RateNotFoundException.class, () -> service.getRatesByDate(date, PageRequest.of(0, 10)));
     }
+
+    @Test
+    void convertBatch_resolvesRatesOnceAndKeepsInputOrder() {
+        LocalDate date = LocalDate.parse("2024-01-01");
+        when(repository.findByCurrencyInAndRateDateIn(any(), any())).thenReturn(List.of(
+                new ExchangeRate("USD", BigDecimal.valueOf(2), date),
+                new ExchangeRate("GBP", BigDecimal.valueOf(4), date)));
+
+        List<BatchConversionResult> results = service.convertBatch(List.of(
+                new ConversionRequest("USD", BigDecimal.valueOf(10), date),
+                new ConversionRequest("GBP", BigDecimal.valueOf(10), date),
+                new ConversionRequest("US", BigDecimal.valueOf(10), date),
+                new ConversionRequest("JPY", BigDecimal.valueOf(10), date),
+                new ConversionRequest("USD", BigDecimal.valueOf(20), date)));
+
+        assertThat(results).extracting(BatchConversionResult::index).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results.get(0).conversion().convertedAmount()).isEqualByComparingTo("5");
+        assertThat(results.get(1).conversion().convertedAmount()).isEqualByComparingTo("2.5");
+        assertThat(results.get(2).error()).isEqualTo("Currency must be 3 uppercase letters");
+        assertThat(results.get(3).error()).startsWith("No exchange rate data available");
+        assertThat(results.get(4).conversion().convertedAmount()).isEqualByComparingTo("10");
+
+        verify(repository, times(1)).findByCurrencyInAndRateDateIn(any(), any());
+        verify(repository, never()).findByCurrencyAndRateDate(any(), any());
+    }
 }
@@ -0,0 +1,98 @@
+package com.mukesh.fxservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FixedPointMathTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void divide_matchesBigDecimalForRandomAmountsAndRates() {
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal amount = randomDecimal(random, 1 + random.nextInt(18), random.nextInt(9) - 2);
+            BigDecimal rate = randomDecimal(random, 1 + random.nextInt(12), random.nextInt(10));
+            if (rate.signum() != 0) {
+                assertSameAsBigDecimal(amount, rate, 6);
+            }
+        }
+    }
+
+    @Test
+    void divide_matchesBigDecimalAcrossScalesAndSigns() {
+        Random random = new Random(7);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal dividend = randomDecimal(random, 1 + random.nextInt(19), random.nextInt(41) - 20);
+            BigDecimal divisor = randomDecimal(random, 1 + random.nextInt(19), random.nextInt(41) - 20);
+            if (random.nextBoolean()) {
+                dividend = dividend.negate();
+            }
+            if (random.nextBoolean()) {
+                divisor = divisor.negate();
+            }
+            if (divisor.signum() != 0) {
+                assertSameAsBigDecimal(dividend, divisor, random.nextInt(21) - 5);
+            }
+        }
+    }
+
+    @Test
+    void divide_roundsExactHalvesAwayFromZero() {
+        assertSameAsBigDecimal(new BigDecimal("0.0000005"), BigDecimal.ONE, 6);
+        assertSameAsBigDecimal(new BigDecimal("-0.0000005"), BigDecimal.ONE, 6);
+        assertSameAsBigDecimal(new BigDecimal("0.0000015"), new BigDecimal("1.000000"), 6);
+        assertSameAsBigDecimal(new BigDecimal("0.00000049999"), BigDecimal.ONE, 6);
+        assertSameAsBigDecimal(BigDecimal.ONE, new BigDecimal("3"), 6);
+        assertSameAsBigDecimal(new BigDecimal("2"), new BigDecimal("3"), 6);
+        assertSameAsBigDecimal(new BigDecimal("2"), new BigDecimal("-3"), 6);
+
+        assertThat(FixedPointMath.divide(new BigDecimal("0.0000005"), BigDecimal.ONE, 6))
+                .isEqualTo(new BigDecimal("0.000001"));
+    }
+
+    @Test
+    void divide_fallsBackWhenOperandsOrIntermediatesOverflow() {
+        assertSameAsBigDecimal(new BigDecimal("9223372036854775807.123456"), new BigDecimal("1.097300"), 6);
+        assertSameAsBigDecimal(new BigDecimal("999999999999999999"), new BigDecimal("0.000001"), 6);
+        assertSameAsBigDecimal(new BigDecimal("123456789012345678"), new BigDecimal("158.950000"), 6);
+        assertSameAsBigDecimal(new BigDecimal("1E+30"), new BigDecimal("1.097300"), 6);
+        assertSameAsBigDecimal(new BigDecimal("1E-30"), new BigDecimal("1.097300"), 6);
+        assertSameAsBigDecimal(new BigDecimal("12345.67"), new BigDecimal("1E-25"), 6);
+    }
+
+    @Test
+    void divide_keepsScaleOfZeroResults() {
+        assertSameAsBigDecimal(BigDecimal.ZERO, new BigDecimal("1.097300"), 6);
+        assertSameAsBigDecimal(new BigDecimal("0.00"), new BigDecimal("158.95"), 10);
+        assertSameAsBigDecimal(new BigDecimal("0.0000001"), new BigDecimal("158.95"), 6);
+    }
+
+    @Test
+    void divide_rejectsZeroDivisor() {
+        assertThrows(ArithmeticException.class,
+                () -> FixedPointMath.divide(BigDecimal.ONE, new BigDecimal("0.000000"), 6));
+    }
+
+    private static void assertSameAsBigDecimal(BigDecimal dividend, BigDecimal divisor, int scale) {
+        BigDecimal expected = dividend.divide(divisor, scale, RoundingMode.HALF_UP);
+        BigDecimal actual = FixedPointMath.divide(dividend, divisor, scale);
+
+        // equals compares value and scale, so this is a bit-for-bit match
+        assertThat(actual)
+                .as("%s / %s at scale %d", dividend, divisor, scale)
+                .isEqualTo(expected);
+    }
+
+    private static BigDecimal randomDecimal(Random random, int digits, int scale) {
+        BigInteger unscaled = new BigInteger(64, random).mod(BigInteger.TEN.pow(digits));
+        return new BigDecimal(unscaled, scale);
+    }
+}
@@ -0,0 +1,153 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.cache.ExchangeRateCache;
+import com.mukesh.fxservice.domain.ExchangeRate;
+import com.mukesh.fxservice.dto.RateSeriesResponse;
+import com.mukesh.fxservice.dto.RateStats;
+import com.mukesh.fxservice.dto.RateStatsResponse;
+import com.mukesh.fxservice.exception.InvalidRangeException;
+import com.mukesh.fxservice.exception.RateNotFoundException;
+import com.mukesh.fxservice.repository.ExchangeRateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateSeriesServiceTest {
+
+    private ExchangeRateRepository repository;
+    private RateSeriesService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ExchangeRateRepository.class);
+        ExchangeRateCache cache = new ExchangeRateCache(repository);
+        service = new RateSeriesService(repository, cache);
+
+        when(repository.findAll()).thenReturn(List.of(
+                new ExchangeRate("USD", new BigDecimal("1.100000"), LocalDate.parse("2024-01-05")),
+                new ExchangeRate("USD", new BigDecimal("1.200000"), LocalDate.parse("2024-01-08")),
+                new ExchangeRate("USD", new BigDecimal("1.300000"), LocalDate.parse("2024-01-09"))
+        ));
+        cache.reload();
+    }
+
+    @Test
+    void getSeries_slicesCachedSeriesAndSkipsGaps() {
+        RateSeriesResponse response = service.getSeries("usd",
+                LocalDate.parse("2024-01-01"), LocalDate.parse("2024-01-08"));
+
+        assertThat(response.currency()).isEqualTo("USD");
+        assertThat(response.points()).extracting(p -> p.date().toString())
+                .containsExactly("2024-01-05", "2024-01-08");
+        assertThat(response.points().get(1).rate()).isEqualTo(new BigDecimal("1.200000"));
+        verify(repository, never()).findByCurrencyAndRateDateBetweenOrderByRateDateAsc(any(), any(), any());
+    }
+
+    @Test
+    void getSeries_unknownCurrency_readsDatabase() {
+        LocalDate from = LocalDate.parse("2024-01-01");
+        LocalDate to = LocalDate.parse("2024-01-31");
+        when(repository.findByCurrencyAndRateDateBetweenOrderByRateDateAsc("GBP", from, to))
+                .thenReturn(List.of(new ExchangeRate("GBP", new BigDecimal("0.860000"), LocalDate.parse("2024-01-10"))));
+
+        RateSeriesResponse response = service.getSeries("GBP", from, to);
+
+        assertThat(response.points()).hasSize(1);
+    }
+
+    @Test
+    void getSeries_emptyRange_throwsNotFound() {
+        assertThrows(RateNotFoundException.class, () -> service.getSeries("USD",
+                LocalDate.parse("2024-02-01"), LocalDate.parse("2024-02-28")));
+    }
+
+    @Test
+    void getSeries_invertedRange_throwsInvalidRange() {
+        assertThrows(InvalidRangeException.class, () -> service.getSeries("USD",
+                LocalDate.parse("2024-01-09"), LocalDate.parse("2024-01-01")));
+    }
+
+    @Test
+    void getStats_overallRange() {
+        RateStatsResponse response = service.getStats("USD",
+                LocalDate.parse("2024-01-01"), LocalDate.parse("2024-01-31"), null);
+
+        RateStats overall = response.overall();
+        assertThat(overall.count()).isEqualTo(3);
+        assertThat(overall.min()).isEqualTo(new BigDecimal("1.100000"));
+        assertThat(overall.max()).isEqualTo(new BigDecimal("1.300000"));
+        assertThat(overall.average()).isEqualTo(new BigDecimal("1.200000"));
+        // population deviation of {1.1, 1.2, 1.3} is sqrt(0.02 / 3)
+        assertThat(overall.stddev()).isEqualTo(new BigDecimal("0.081650"));
+        assertThat(response.windows()).isEmpty();
+    }
+
+    @Test
+    void getStats_rollingWindowsMatchBruteForce() {
+        Random random = new Random(42);
+        List<ExchangeRate> rates = new ArrayList<>();
+        LocalDate start = LocalDate.parse("2023-01-01");
+        for (int day = 0; day < 400; day++) {
+            if (random.nextInt(7) < 5) {
+                rates.add(new ExchangeRate("JPY",
+                        BigDecimal.valueOf(140_000_000L + random.nextInt(30_000_000), 6), start.plusDays(day)));
+            }
+        }
+        when(repository.findAll()).thenReturn(rates);
+        ExchangeRateCache cache = new ExchangeRateCache(repository);
+        cache.reload();
+        RateSeriesService randomService = new RateSeriesService(repository, cache);
+
+        LocalDate from = LocalDate.parse("2023-03-01");
+        LocalDate to = LocalDate.parse("2023-12-31");
+        RateStatsResponse response = randomService.getStats("JPY", from, to, "30d");
+
+        assertThat(response.windowDays()).isEqualTo(30);
+        assertThat(response.windows()).isNotEmpty();
+        for (RateStats window : response.windows()) {
+            List<BigDecimal> values = rates.stream()
+                    .filter(r -> !r.getRateDate().isBefore(window.from()) && !r.getRateDate().isAfter(window.to()))
+                    .map(ExchangeRate::getRate)
+                    .toList();
+            BigDecimal sum = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            assertThat(window.to()).isBetween(from, to);
+            assertThat(window.from()).isEqualTo(window.to().minusDays(29));
+            assertThat(window.count()).isEqualTo(values.size());
+            assertThat(window.min()).isEqualByComparingTo(values.stream().min(BigDecimal::compareTo).orElseThrow());
+            assertThat(window.max()).isEqualByComparingTo(values.stream().max(BigDecimal::compareTo).orElseThrow());
+            assertThat(window.average()).isEqualByComparingTo(
+                    sum.divide(BigDecimal.valueOf(values.size()), 6, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Test
+    void getStats_invalidWindow_throwsInvalidRange() {
+        assertThrows(InvalidRangeException.class, () -> service.getStats("USD",
+                LocalDate.parse("2024-01-01"), LocalDate.parse("2024-01-31"), "30w"));
+    }
+
+    @Test
+    void getStats_windowOutsideLimit_throwsInvalidRange() {
+        LocalDate from = LocalDate.parse("2024-01-01");
+        LocalDate to = LocalDate.parse("2024-01-31");
+
+        assertThrows(InvalidRangeException.class, () -> service.getStats("USD", from, to, "0d"));
+        assertThrows(InvalidRangeException.class, () -> service.getStats("USD", from, to,
+                (RateSeriesService.MAX_WINDOW_DAYS + 1) + "d"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.mukesh.fxservice.service;
+
+import com.mukesh.fxservice.exception.RateNotFoundException;
+import com.mukesh.fxservice.metrics.ExchangeRateMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 50;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight =
+            new SingleFlight<>("rate", new ExchangeRateMetrics(registry));
+
+    @Test
+    void concurrentCallersForTheSameKeyShareOneLookup() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger lookups = new AtomicInteger();
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> flight.execute("USD|2024-01-10", () -> {
+                    lookups.incrementAndGet();
+                    await(release);
+                    return "1.100000";
+                })));
+            }
+            waitUntilAllJoined();
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("1.100000");
+            }
+        }
+
+        assertThat(lookups).hasValue(1);
+        assertThat(flight.inFlightCount()).isZero();
+        assertThat(counter("executed")).isEqualTo(1);
+        assertThat(counter("coalesced")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void waitersReceiveTheLeadersException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> flight.execute("USD|2024-01-13", () -> {
+                    await(release);
+                    throw new RateNotFoundException("No exchange rate data available for date: 2024-01-13");
+                })));
+            }
+            waitUntilAllJoined();
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(RateNotFoundException.class);
+            }
+        }
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void sequentialCallsAndDifferentKeysAreNotCoalesced() {
+        assertThat(flight.execute("USD", () -> "a")).isEqualTo("a");
+        assertThat(flight.execute("USD", () -> "b")).isEqualTo("b");
+        assertThat(flight.execute("GBP", () -> "c")).isEqualTo("c");
+
+        assertThat(counter("executed")).isEqualTo(3);
+        assertThat(registry.find(ExchangeRateMetrics.DATABASE_LOOKUPS).tag("result", "coalesced").counter())
+                .isNull();
+    }
+
+    // Every caller but the leader has recorded a coalesced lookup once it is about to wait.
+    private void waitUntilAllJoined() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter("executed") + counter("coalesced") < CALLERS && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double counter(String result) {
+        var counter = registry.find(ExchangeRateMetrics.DATABASE_LOOKUPS)
+                .tag("lookup", "rate")
+                .tag("result", result)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}